@@ -0,0 +1,122 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.cache.EntityCacheEvictor;
+import ru.practicum.shareit.item.booking.dao.BookingRepository;
+import ru.practicum.shareit.item.booking.dto.ItemBookingsView;
+import ru.practicum.shareit.item.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.item.booking.service.ItemBookingSummaries;
+import ru.practicum.shareit.item.comment.dao.CommentRepository;
+import ru.practicum.shareit.item.comment.model.Comment;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.item.service.ItemServiceImpl;
+import ru.practicum.shareit.item.service.ItemTokenIndex;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.groupingBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ItemServiceBenchmark {
+
+    private static final int COMMENTS_PER_ITEM = 2;
+
+    @Param({"10000", "100000", "1000000"})
+    private int itemCount;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ItemService itemService;
+
+    private int from;
+
+    @Setup
+    public void setUp() {
+        List<Item> items = SyntheticData.items(itemCount);
+
+        ItemRepository itemRepository = mock(ItemRepository.class);
+        when(itemRepository.findByOwner_IdOrderByIdAsc(anyLong(), any())).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(1);
+            int from = (int) Math.min(pageable.getOffset(), items.size());
+            int to = Math.min(from + pageable.getPageSize(), items.size());
+            return new PageImpl<>(items.subList(from, to), pageable, items.size());
+        });
+
+        Map<Long, List<Comment>> comments = SyntheticData.comments(items, COMMENTS_PER_ITEM).stream()
+                .collect(groupingBy(comment -> comment.getItem().getId()));
+        CommentRepository commentRepository = mock(CommentRepository.class);
+        when(commentRepository.findByItemIn(anyList(), any())).thenAnswer(invocation -> {
+            List<Comment> found = new ArrayList<>();
+            for (Item item : invocation.<List<Item>>getArgument(0)) {
+                found.addAll(comments.getOrDefault(item.getId(), Collections.emptyList()));
+            }
+            return found;
+        });
+
+        Map<Long, ItemBookingsView> summaries = new HashMap<>();
+        for (int i = 0; i < items.size(); i += 2) {
+            Long itemId = items.get(i).getId();
+            summaries.put(itemId, ItemBookingSummary.builder()
+                    .itemId(itemId)
+                    .lastBookingId(itemId)
+                    .lastBookerId(SyntheticData.OWNER_ID + 1)
+                    .build());
+        }
+        ItemBookingSummaries itemBookingSummaries = mock(ItemBookingSummaries.class);
+        when(itemBookingSummaries.get(anyCollection(), any())).thenAnswer(invocation -> {
+            Map<Long, ItemBookingsView> found = new HashMap<>();
+            for (Long itemId : invocation.<Collection<Long>>getArgument(0)) {
+                ItemBookingsView summary = summaries.get(itemId);
+                if (summary != null) {
+                    found.put(itemId, summary);
+                }
+            }
+            return found;
+        });
+
+        itemService = new ItemServiceImpl(itemRepository, mock(UserService.class),
+                mock(BookingRepository.class), commentRepository, mock(ItemTokenIndex.class),
+                itemBookingSummaries, mock(EntityCacheEvictor.class));
+    }
+
+    @Benchmark
+    public List<ItemDto> getAllItems() {
+        List<ItemDto> page = itemService.getAllItems(SyntheticData.OWNER_ID, from, pageSize);
+        from = from + pageSize < itemCount ? from + pageSize : 0;
+        return page;
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.booking.BookingMapper;
+import ru.practicum.shareit.item.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.item.booking.model.Booking;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.RequestMapper;
+import ru.practicum.shareit.request.dto.RequestDto;
+import ru.practicum.shareit.request.model.Request;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final int REQUEST_ITEMS = 10;
+
+    private Item item;
+    private Booking booking;
+    private Request request;
+
+    @Setup
+    public void setUp() {
+        item = SyntheticData.items(1).get(0);
+        booking = SyntheticData.booking(item);
+        request = SyntheticData.request(SyntheticData.items(REQUEST_ITEMS));
+    }
+
+    @Benchmark
+    public ItemDto toItemDto() {
+        return ItemMapper.toItemDto(item);
+    }
+
+    @Benchmark
+    public BookingDtoOut toBookingDtoOut() {
+        return BookingMapper.toBookingDtoOut(booking);
+    }
+
+    @Benchmark
+    public RequestDto toRequestDto() {
+        return RequestMapper.toRequestDto(request);
+    }
+}
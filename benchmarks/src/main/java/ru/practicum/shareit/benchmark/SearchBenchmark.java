@@ -0,0 +1,88 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.cache.EntityCacheEvictor;
+import ru.practicum.shareit.item.booking.dao.BookingRepository;
+import ru.practicum.shareit.item.booking.service.ItemBookingSummaries;
+import ru.practicum.shareit.item.comment.dao.CommentRepository;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.item.service.ItemServiceImpl;
+import ru.practicum.shareit.item.service.ItemTokenIndex;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final int BATCH_SIZE = 10000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int itemCount;
+
+    @Param({"drill", "cordless kayak", "number 99"})
+    private String text;
+
+    private ItemService itemService;
+
+    @Setup
+    public void setUp() {
+        List<Item> items = SyntheticData.items(itemCount);
+
+        ItemRepository itemRepository = mock(ItemRepository.class);
+        when(itemRepository.findAllByIdGreaterThanOrderByIdAsc(anyLong(), any())).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            int from = (int) Math.min(lastId, items.size());
+            return items.subList(from, Math.min(from + pageable.getPageSize(), items.size()));
+        });
+        when(itemRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Item> found = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                found.add(items.get((int) (id - 1)));
+            }
+            return found;
+        });
+
+        ItemTokenIndex itemTokenIndex = new ItemTokenIndex(itemRepository, true, BATCH_SIZE);
+        itemTokenIndex.rebuild();
+
+        itemService = new ItemServiceImpl(itemRepository, mock(UserService.class),
+                mock(BookingRepository.class), mock(CommentRepository.class), itemTokenIndex,
+                mock(ItemBookingSummaries.class), mock(EntityCacheEvictor.class));
+    }
+
+    @Benchmark
+    public List<ItemDto> searchItems() {
+        return itemService.searchItems(SyntheticData.OWNER_ID, text, 0, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,94 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SearchQueryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final int BATCH_SIZE = 10000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int itemCount;
+
+    @Param({"drill", "cordless kayak", "number 99"})
+    private String text;
+
+    private ConfigurableApplicationContext context;
+
+    private ItemService itemService;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.jpa.show_sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--spring.sleuth.enabled=false",
+                        "--shareit.search.token-index.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.transaction.interceptor=WARN",
+                        "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN");
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        User owner = SyntheticData.owner();
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, ?, ?)",
+                owner.getId(), owner.getName(), owner.getEmail());
+
+        List<Item> items = SyntheticData.items(itemCount);
+        for (int from = 0; from < items.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO items (id, name, description, available, owner_id) VALUES (?, ?, ?, ?, ?)",
+                    items.subList(from, Math.min(from + BATCH_SIZE, items.size())), BATCH_SIZE,
+                    (statement, item) -> {
+                        statement.setLong(1, item.getId());
+                        statement.setString(2, item.getName());
+                        statement.setString(3, item.getDescription());
+                        statement.setBoolean(4, item.getAvailable());
+                        statement.setLong(5, owner.getId());
+                    });
+        }
+
+        itemService = context.getBean(ItemService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ItemDto> searchItems() {
+        return itemService.searchItems(SyntheticData.OWNER_ID, text, 0, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,96 @@
+package ru.practicum.shareit.benchmark;
+
+import lombok.experimental.UtilityClass;
+import ru.practicum.shareit.item.booking.model.Booking;
+import ru.practicum.shareit.item.booking.model.BookingStatus;
+import ru.practicum.shareit.item.comment.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.Request;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+@UtilityClass
+class SyntheticData {
+
+    static final long OWNER_ID = 1L;
+
+    static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private static final String[] WORDS = {
+        "drill", "hammer", "ladder", "saw", "tent", "kayak", "bicycle", "camera", "tripod", "projector",
+        "mixer", "grill", "cooler", "helmet", "scooter", "tablet", "speaker", "stroller", "backpack", "compressor"
+    };
+
+    private static final String[] ADJECTIVES = {
+        "cordless", "electric", "folding", "portable", "heavy", "compact", "vintage", "waterproof"
+    };
+
+    static User owner() {
+        return User.builder()
+                .id(OWNER_ID)
+                .name("owner")
+                .email("owner@test.ru")
+                .build();
+    }
+
+    static List<Item> items(int count) {
+        SplittableRandom random = new SplittableRandom(count);
+        User owner = owner();
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            String adjective = ADJECTIVES[random.nextInt(ADJECTIVES.length)];
+            items.add(Item.builder()
+                    .id((long) i)
+                    .name(adjective + " " + word)
+                    .description(String.format("%s %s number %d in good condition", adjective, word, i))
+                    .available(random.nextInt(10) != 0)
+                    .owner(owner)
+                    .requestId(random.nextInt(4) == 0 ? (long) random.nextInt(1000) + 1 : null)
+                    .build());
+        }
+        return items;
+    }
+
+    static List<Comment> comments(List<Item> items, int perItem) {
+        User author = User.builder().id(OWNER_ID + 1).name("author").email("author@test.ru").build();
+        List<Comment> comments = new ArrayList<>(items.size() * perItem);
+        for (Item item : items) {
+            for (int i = 0; i < perItem; i++) {
+                comments.add(Comment.builder()
+                        .id(item.getId() * perItem + i)
+                        .text("comment " + i + " for " + item.getName())
+                        .item(item)
+                        .author(author)
+                        .created(NOW.minusDays(i))
+                        .build());
+            }
+        }
+        return comments;
+    }
+
+    static Booking booking(Item item) {
+        return Booking.builder()
+                .id(item.getId())
+                .start(NOW.plusDays(1))
+                .end(NOW.plusDays(2))
+                .item(item)
+                .booker(User.builder().id(OWNER_ID + 1).name("booker").email("booker@test.ru").build())
+                .status(BookingStatus.APPROVED)
+                .build();
+    }
+
+    static Request request(List<Item> items) {
+        return Request.builder()
+                .id(1L)
+                .description("need something from the shed")
+                .created(NOW)
+                .requestor(owner())
+                .items(items)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+@Component
+public class ResponseCache {
+
+    private static final String CACHE_NAME = "gateway.responses";
+
+    private final Cache<String, CachedResponse> responses;
+    private final long freshForNanos;
+    private final Ticker ticker;
+
+    @Autowired
+    public ResponseCache(@Value("${shareit-server.cache.maximum-size:10000}") long maximumSize,
+                         @Value("${shareit-server.cache.expire-after-write:10m}") Duration expireAfterWrite,
+                         @Value("${shareit-server.cache.fresh-for:5s}") Duration freshFor,
+                         MeterRegistry meterRegistry) {
+        this(maximumSize, expireAfterWrite, freshFor, meterRegistry, Ticker.systemTicker());
+    }
+
+    ResponseCache(long maximumSize, Duration expireAfterWrite, Duration freshFor, MeterRegistry meterRegistry,
+                  Ticker ticker) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.freshForNanos = freshFor.toNanos();
+        this.ticker = ticker;
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME);
+    }
+
+    public static String key(String region, String path, @Nullable Long userId, @Nullable Map<String, Object> parameters) {
+        return region + path + "|" + (parameters != null ? new TreeMap<>(parameters) : Map.of()) + "|" + userId;
+    }
+
+    public Mono<ResponseEntity<Object>> get(String key, Function<HttpHeaders, Mono<ResponseEntity<Object>>> request) {
+        CachedResponse cached = responses.getIfPresent(key);
+        if (cached != null && cached.isFresh(ticker.read())) {
+            return Mono.just(cached.toResponse());
+        }
+
+        HttpHeaders requestHeaders = new HttpHeaders();
+        if (cached != null) {
+            requestHeaders.setIfNoneMatch(cached.getEtag());
+        }
+
+        return request.apply(requestHeaders)
+                .map(response -> {
+                    if (cached != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                        responses.put(key, cached.refresh(ticker.read() + freshForNanos));
+                        return cached.toResponse();
+                    }
+                    store(key, response);
+                    return response;
+                });
+    }
+
+    public void invalidateAll() {
+        responses.invalidateAll();
+    }
+
+    private void store(String key, ResponseEntity<Object> response) {
+        String etag = response.getHeaders().getETag();
+        if (response.getStatusCode() != HttpStatus.OK || etag == null || !(response.getBody() instanceof byte[])) {
+            responses.invalidate(key);
+            return;
+        }
+
+        responses.put(key, new CachedResponse(response.getHeaders().getContentType(), etag,
+                (byte[]) response.getBody(), ticker.read() + freshForNanos));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedResponse {
+        private final MediaType contentType;
+        private final String etag;
+        private final byte[] body;
+        private final long freshUntil;
+
+        boolean isFresh(long now) {
+            return now - freshUntil < 0;
+        }
+
+        CachedResponse refresh(long freshUntil) {
+            return new CachedResponse(contentType, etag, body, freshUntil);
+        }
+
+        ResponseEntity<Object> toResponse() {
+            ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok().eTag(etag);
+            if (contentType != null) {
+                responseBuilder.contentType(contentType);
+            }
+            return responseBuilder.body(body);
+        }
+    }
+}
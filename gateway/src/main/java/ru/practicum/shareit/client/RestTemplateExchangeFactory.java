@@ -0,0 +1,76 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@Component
+@Profile("!reactive")
+public class RestTemplateExchangeFactory implements ServerExchangeFactory {
+
+    private final String serverUrl;
+    private final RestTemplateBuilder builder;
+    private final ClientHttpRequestFactory requestFactory;
+
+    public RestTemplateExchangeFactory(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                                       ClientHttpRequestFactory requestFactory) {
+        this.serverUrl = serverUrl;
+        this.builder = builder;
+        this.requestFactory = requestFactory;
+    }
+
+    @Override
+    public ServerExchange create(String apiPrefix) {
+        RestTemplate rest = builder
+                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + apiPrefix))
+                .requestFactory(() -> requestFactory)
+                .build();
+
+        return (method, path, userId, parameters, body, requestHeaders) ->
+                Mono.fromCallable(() -> makeAndSendRequest(rest, method, path, userId, parameters, body, requestHeaders));
+    }
+
+    private static ResponseEntity<Object> makeAndSendRequest(RestTemplate rest, HttpMethod method, String path,
+                                                             Long userId, @Nullable Map<String, Object> parameters,
+                                                             @Nullable Object body, HttpHeaders requestHeaders) {
+        HttpEntity<Object> requestEntity = new HttpEntity<>(body, ServerExchange.defaultHeaders(userId, requestHeaders));
+
+        ResponseEntity<byte[]> shareitServerResponse;
+        try {
+            if (parameters != null) {
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class, parameters);
+            } else {
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class);
+            }
+        } catch (HttpStatusCodeException e) {
+            return prepareGatewayResponse(ResponseEntity.status(e.getStatusCode())
+                    .headers(e.getResponseHeaders())
+                    .body(e.getResponseBodyAsByteArray()));
+        }
+        return prepareGatewayResponse(shareitServerResponse);
+    }
+
+    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<byte[]> response) {
+        ResponseEntity.BodyBuilder responseBuilder = ServerExchange.gatewayResponse(response.getStatusCodeValue(),
+                response.getHeaders());
+
+        if (response.hasBody()) {
+            return responseBuilder.body(response.getBody());
+        }
+
+        return responseBuilder.build();
+    }
+}
@@ -0,0 +1,50 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ServerExchange {
+
+    Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, @Nullable Long userId,
+                                          @Nullable Map<String, Object> parameters, @Nullable Object body,
+                                          HttpHeaders requestHeaders);
+
+    default Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, @Nullable Long userId,
+                                                  @Nullable Map<String, Object> parameters, @Nullable Object body) {
+        return exchange(method, path, userId, parameters, body, HttpHeaders.EMPTY);
+    }
+
+    static HttpHeaders defaultHeaders(@Nullable Long userId, HttpHeaders requestHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(requestHeaders);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (userId != null) {
+            headers.set("X-Sharer-User-Id", String.valueOf(userId));
+        }
+        return headers;
+    }
+
+    static ResponseEntity.BodyBuilder gatewayResponse(int statusCode, HttpHeaders responseHeaders) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(statusCode);
+
+        MediaType contentType = responseHeaders.getContentType();
+        if (contentType != null) {
+            responseBuilder.contentType(contentType);
+        }
+
+        String etag = responseHeaders.getETag();
+        if (etag != null) {
+            responseBuilder.eTag(etag);
+        }
+
+        return responseBuilder;
+    }
+}
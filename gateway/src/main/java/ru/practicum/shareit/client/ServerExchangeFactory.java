@@ -0,0 +1,6 @@
+package ru.practicum.shareit.client;
+
+public interface ServerExchangeFactory {
+
+    ServerExchange create(String apiPrefix);
+}
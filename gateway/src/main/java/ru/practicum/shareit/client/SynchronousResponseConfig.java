@@ -0,0 +1,92 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandlerComposite;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@Profile("!reactive")
+public class SynchronousResponseConfig {
+
+    @Bean
+    public static BeanPostProcessor synchronousResponseHandlerRegistrar() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof RequestMappingHandlerAdapter) {
+                    RequestMappingHandlerAdapter adapter = (RequestMappingHandlerAdapter) bean;
+                    List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>();
+                    handlers.add(new SynchronousResponseHandler(adapter.getReturnValueHandlers()));
+                    handlers.addAll(adapter.getReturnValueHandlers());
+                    adapter.setReturnValueHandlers(handlers);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static class SynchronousResponseHandler implements HandlerMethodReturnValueHandler {
+
+        private final HandlerMethodReturnValueHandlerComposite delegate = new HandlerMethodReturnValueHandlerComposite();
+
+        SynchronousResponseHandler(List<HandlerMethodReturnValueHandler> handlers) {
+            delegate.addHandlers(handlers);
+        }
+
+        @Override
+        public boolean supportsReturnType(MethodParameter returnType) {
+            return Mono.class.isAssignableFrom(returnType.getParameterType());
+        }
+
+        @Override
+        public void handleReturnValue(@Nullable Object returnValue, MethodParameter returnType,
+                                      ModelAndViewContainer mavContainer, NativeWebRequest webRequest) throws Exception {
+            Object result = returnValue != null ? ((Mono<?>) returnValue).block() : null;
+            delegate.handleReturnValue(result, new ResultParameter(returnType), mavContainer, webRequest);
+        }
+    }
+
+    private static final class ResultParameter extends MethodParameter implements Cloneable {
+
+        private final Type resultType;
+
+        ResultParameter(MethodParameter returnType) {
+            super(returnType);
+            this.resultType = ResolvableType.forMethodParameter(returnType).getGeneric().getType();
+        }
+
+        private ResultParameter(ResultParameter original) {
+            super(original);
+            this.resultType = original.resultType;
+        }
+
+        @Override
+        public Class<?> getParameterType() {
+            return ResolvableType.forType(resultType).resolve(Object.class);
+        }
+
+        @Override
+        public Type getGenericParameterType() {
+            return resultType;
+        }
+
+        @Override
+        public ResultParameter clone() {
+            return new ResultParameter(this);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package ru.practicum.shareit.client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Component
+@Profile("reactive")
+public class WebClientExchangeFactory implements ServerExchangeFactory {
+
+    private static final String POOL_NAME = "shareit-server";
+
+    private final String serverUrl;
+    private final WebClient.Builder builder;
+    private final ReactorClientHttpConnector connector;
+
+    public WebClientExchangeFactory(
+            @Value("${shareit-server.url}") String serverUrl,
+            WebClient.Builder builder,
+            @Value("${shareit-server.http-client.max-total:1000}") int maxConnections,
+            @Value("${shareit-server.http-client.pending-acquire-max-count:50000}") int pendingAcquireMaxCount,
+            @Value("${shareit-server.http-client.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${shareit-server.http-client.read-timeout:10s}") Duration readTimeout,
+            @Value("${shareit-server.http-client.connection-request-timeout:2s}") Duration connectionRequestTimeout,
+            @Value("${shareit-server.http-client.keep-alive:30s}") Duration keepAlive,
+            @Value("${shareit-server.http-client.idle-eviction:30s}") Duration idleEviction) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(connectionRequestTimeout)
+                .maxIdleTime(keepAlive)
+                .evictInBackground(idleEviction)
+                .metrics(true)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout)
+                .keepAlive(true);
+
+        this.serverUrl = serverUrl;
+        this.builder = builder;
+        this.connector = new ReactorClientHttpConnector(httpClient);
+    }
+
+    @Override
+    public ServerExchange create(String apiPrefix) {
+        WebClient webClient = builder.clone()
+                .baseUrl(serverUrl + apiPrefix)
+                .clientConnector(connector)
+                .build();
+
+        return (method, path, userId, parameters, body, requestHeaders) -> {
+            WebClient.RequestBodySpec request = webClient.method(method)
+                    .uri(path, parameters != null ? parameters : Map.of())
+                    .headers(headers -> headers.addAll(ServerExchange.defaultHeaders(userId, requestHeaders)));
+
+            return (body != null ? request.bodyValue(body) : request)
+                    .retrieve()
+                    .onStatus(HttpStatus::isError, response -> Mono.empty())
+                    .toEntity(byte[].class)
+                    .map(WebClientExchangeFactory::prepareGatewayResponse);
+        };
+    }
+
+    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<byte[]> response) {
+        ResponseEntity.BodyBuilder responseBuilder = ServerExchange.gatewayResponse(response.getStatusCodeValue(),
+                response.getHeaders());
+
+        if (response.hasBody()) {
+            return responseBuilder.body(response.getBody());
+        }
+
+        return responseBuilder.build();
+    }
+}
@@ -1,17 +1,16 @@
 package ru.practicum.shareit.item;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerExchangeFactory;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Map;
 
@@ -20,29 +19,23 @@ public class ItemClient extends BaseClient {
 
     private static final String API_PREFIX = "/items";
 
-    @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public ItemClient(ServerExchangeFactory exchangeFactory, ResponseCache responseCache) {
+        super(exchangeFactory.create(API_PREFIX), responseCache, API_PREFIX);
     }
 
-    public ResponseEntity<Object> createItem(ItemDto itemDto, Long userId) {
+    public Mono<ResponseEntity<Object>> createItem(ItemDto itemDto, Long userId) {
         return post("", userId, itemDto);
     }
 
-    public ResponseEntity<Object> update(Long userId, Long itemId, ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> update(Long userId, Long itemId, ItemDto itemDto) {
         return patch("/" + itemId, userId, itemDto);
     }
 
-    public ResponseEntity<Object> get(Long itemId, Long userId) {
-        return get("/" + itemId, userId, null);
+    public Mono<ResponseEntity<Object>> get(Long itemId, Long userId) {
+        return getCached("/" + itemId, userId, null);
     }
 
-    public ResponseEntity<Object> getAll(Long userId, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getAll(Long userId, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
@@ -51,10 +44,10 @@ public class ItemClient extends BaseClient {
         return get("?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> searchItems(Long userId, String text, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> searchItems(Long userId, String text, Integer from, Integer size) {
 
         if (text.isBlank()) {
-            return ResponseEntity.status(HttpStatus.OK).body(Collections.emptyList());
+            return Mono.just(ResponseEntity.status(HttpStatus.OK).body(Collections.emptyList()));
         }
 
         Map<String, Object> parameters = Map.of(
@@ -66,7 +59,20 @@ public class ItemClient extends BaseClient {
         return get("/search?from={from}&size={size}&text={text}", userId, parameters);
     }
 
-    public ResponseEntity<Object> createComment(CommentDto commentDto, Long userId, Long itemId) {
+    public Mono<ResponseEntity<Object>> searchAvailableItems(Long userId, String text, LocalDateTime start,
+                                                             LocalDateTime end, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size,
+                "text", text,
+                "start", start,
+                "end", end
+        );
+
+        return get("/available?from={from}&size={size}&text={text}&start={start}&end={end}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> createComment(CommentDto commentDto, Long userId, Long itemId) {
         return post("/" + itemId + "/comment", userId, commentDto);
     }
 }
@@ -1,16 +1,19 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.util.Create;
 import ru.practicum.shareit.util.Update;
 
 import javax.validation.constraints.Min;
+import java.time.LocalDateTime;
 
 @Controller
 @RequestMapping(path = "/items")
@@ -21,43 +24,58 @@ public class ItemController {
     private final ItemClient itemClient;
 
     @PostMapping
-    public ResponseEntity<Object> createItem(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                             @Validated({Create.class}) @RequestBody ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> createItem(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                   @Validated({Create.class}) @RequestBody ItemDto itemDto) {
         return itemClient.createItem(itemDto, userId);
     }
 
     @PatchMapping("/{itemId}")
-    public ResponseEntity<Object> update(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                         @Validated({Update.class}) @RequestBody ItemDto itemDto,
-                                         @PathVariable("itemId") Long itemId) {
+    public Mono<ResponseEntity<Object>> update(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                               @Validated({Update.class}) @RequestBody ItemDto itemDto,
+                                               @PathVariable("itemId") Long itemId) {
         return itemClient.update(userId, itemId, itemDto);
     }
 
     @GetMapping("/{itemId}")
-    public ResponseEntity<Object> get(@RequestHeader("X-Sharer-User-Id") Long userId,
+    public Mono<ResponseEntity<Object>> get(@RequestHeader("X-Sharer-User-Id") Long userId,
                                       @PathVariable Long itemId) {
         return itemClient.get(itemId, userId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAll(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                         @RequestParam(value = "from", defaultValue = "0") @Min(0) Integer from,
-                                         @RequestParam(value = "size", defaultValue = "10") @Min(1) Integer size) {
+    public Mono<ResponseEntity<Object>> getAll(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                               @RequestParam(value = "from", defaultValue = "0") @Min(0) Integer from,
+                                               @RequestParam(value = "size", defaultValue = "10") @Min(1) Integer size) {
         return itemClient.getAll(userId, from, size);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> searchItems(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                              @RequestParam(name = "text") String text,
-                                              @RequestParam(value = "from", defaultValue = "0") @Min(0) Integer from,
-                                              @RequestParam(value = "size", defaultValue = "10") @Min(1) Integer size) {
+    public Mono<ResponseEntity<Object>> searchItems(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                    @RequestParam(name = "text") String text,
+                                                    @RequestParam(value = "from", defaultValue = "0") @Min(0) Integer from,
+                                                    @RequestParam(value = "size", defaultValue = "10") @Min(1) Integer size) {
         return itemClient.searchItems(userId, text, from, size);
     }
 
+    @GetMapping("/available")
+    public Mono<ResponseEntity<Object>> searchAvailableItems(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                             @RequestParam(name = "text") String text,
+                                                             @RequestParam(name = "start")
+                                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+                                                             @RequestParam(name = "end")
+                                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+                                                             @RequestParam(value = "from", defaultValue = "0") @Min(0) Integer from,
+                                                             @RequestParam(value = "size", defaultValue = "10") @Min(1) Integer size) {
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("End date should be after start date.");
+        }
+        return itemClient.searchAvailableItems(userId, text, start, end, from, size);
+    }
+
     @PostMapping("/{itemId}/comment")
-    public ResponseEntity<Object> createComment(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                @Validated({Create.class}) @RequestBody CommentDto commentDto,
-                                                @PathVariable Long itemId) {
+    public Mono<ResponseEntity<Object>> createComment(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                      @Validated({Create.class}) @RequestBody CommentDto commentDto,
+                                                      @PathVariable Long itemId) {
         return itemClient.createComment(commentDto, userId, itemId);
     }
 }
@@ -1,33 +1,26 @@
 package ru.practicum.shareit.item.booking;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerExchangeFactory;
 import ru.practicum.shareit.item.booking.dto.BookItemRequestDto;
 import ru.practicum.shareit.item.booking.dto.BookingState;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
-    @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public BookingClient(ServerExchangeFactory exchangeFactory, ResponseCache responseCache) {
+        super(exchangeFactory.create(API_PREFIX), responseCache, API_PREFIX);
     }
 
-    public ResponseEntity<Object> getBookings(long userId, BookingState state, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getBookings(long userId, BookingState state, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
@@ -37,22 +30,22 @@ public class BookingClient extends BaseClient {
     }
 
 
-    public ResponseEntity<Object> bookItem(long userId, BookItemRequestDto requestDto) {
+    public Mono<ResponseEntity<Object>> bookItem(long userId, BookItemRequestDto requestDto) {
         return post("", userId, requestDto);
     }
 
-    public ResponseEntity<Object> getBooking(long userId, Long bookingId) {
+    public Mono<ResponseEntity<Object>> getBooking(long userId, Long bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> update(Long userId, Long bookingId, Boolean approved) {
+    public Mono<ResponseEntity<Object>> update(Long userId, Long bookingId, Boolean approved) {
 
         Map<String, Object> parameters = Map.of("approved", approved);
 
         return patch("/" + bookingId + "?approved={approved}", userId, parameters, null);
     }
 
-    public ResponseEntity<Object> getAllByOwner(Long userId, BookingState state, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getAllByOwner(Long userId, BookingState state, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
@@ -61,4 +54,25 @@ public class BookingClient extends BaseClient {
 
         return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
     }
+
+    public Mono<ResponseEntity<Object>> getBookingsPage(long userId, BookingState state, String cursor, Integer size) {
+        return getPage("/cursor", userId, state, cursor, size);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllByOwnerPage(Long userId, BookingState state, String cursor, Integer size) {
+        return getPage("/owner/cursor", userId, state, cursor, size);
+    }
+
+    private Mono<ResponseEntity<Object>> getPage(String path, Long userId, BookingState state, String cursor, Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state.name());
+        parameters.put("size", size);
+
+        if (cursor == null) {
+            return get(path + "?state={state}&size={size}", userId, parameters);
+        }
+
+        parameters.put("cursor", cursor);
+        return get(path + "?state={state}&cursor={cursor}&size={size}", userId, parameters);
+    }
 }
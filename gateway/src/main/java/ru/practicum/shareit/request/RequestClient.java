@@ -1,13 +1,11 @@
 package ru.practicum.shareit.request;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerExchangeFactory;
 import ru.practicum.shareit.request.dto.RequestDto;
 
 import java.util.Map;
@@ -17,36 +15,30 @@ public class RequestClient extends BaseClient {
 
     private static final String API_PREFIX = "/requests";
 
-    @Autowired
-    public RequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public RequestClient(ServerExchangeFactory exchangeFactory, ResponseCache responseCache) {
+        super(exchangeFactory.create(API_PREFIX), responseCache, API_PREFIX);
     }
 
-    public ResponseEntity<Object> addNewRequest(Long userId, RequestDto requestDto) {
+    public Mono<ResponseEntity<Object>> addNewRequest(Long userId, RequestDto requestDto) {
         return post("", userId, requestDto);
     }
 
 
-    public ResponseEntity<Object> getUserRequests(Long userId) {
+    public Mono<ResponseEntity<Object>> getUserRequests(Long userId) {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> getAllRequests(Long userId, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getAllRequests(Long userId, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
         );
 
-        return get("/all?from={from}&size={size}", userId, parameters);
+        return getCached("/all?from={from}&size={size}", userId, parameters);
     }
 
 
-    public ResponseEntity<Object> getRequestById(Long userId, Long requestId) {
+    public Mono<ResponseEntity<Object>> getRequestById(Long userId, Long requestId) {
         return get("/" + requestId, userId);
     }
 }
@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.util.Create;
 import ru.practicum.shareit.util.Update;
@@ -20,28 +21,28 @@ public class UserController {
     private final UserClient userClient;
 
     @PostMapping
-    public ResponseEntity<Object> createUser(@Validated({Create.class}) @RequestBody UserDto userDto) {
+    public Mono<ResponseEntity<Object>> createUser(@Validated({Create.class}) @RequestBody UserDto userDto) {
         return userClient.create(userDto);
     }
 
     @PatchMapping("/{userId}")
-    public ResponseEntity<Object> update(@Validated({Update.class}) @RequestBody UserDto userDto,
-                                         @PathVariable Long userId) {
+    public Mono<ResponseEntity<Object>> update(@Validated({Update.class}) @RequestBody UserDto userDto,
+                                               @PathVariable Long userId) {
         return userClient.update(userDto, userId);
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Object> get(@PathVariable Long userId) {
+    public Mono<ResponseEntity<Object>> get(@PathVariable Long userId) {
         return userClient.getById(userId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAll() {
+    public Mono<ResponseEntity<Object>> getAll() {
         return userClient.getAll();
     }
 
     @DeleteMapping("/{userId}")
-    public ResponseEntity<Object> delete(@PathVariable Long userId) {
+    public Mono<ResponseEntity<Object>> delete(@PathVariable Long userId) {
         return userClient.deleteById(userId);
     }
 }
@@ -0,0 +1,155 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.user.UserClient;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseCacheTest {
+
+    private static final String KEY = ResponseCache.key("/users", "/1", null, null);
+
+    private static final Duration FRESH_FOR = Duration.ofSeconds(5);
+
+    private static final byte[] FIRST_BODY = "{\"id\":1,\"name\":\"first\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] SECOND_BODY = "{\"id\":1,\"name\":\"second\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final ResponseCache responseCache = new ResponseCache(100, Duration.ofMinutes(10), FRESH_FOR,
+            new SimpleMeterRegistry(), now::get);
+
+    private final FakeServer server = new FakeServer();
+
+    @Test
+    @DisplayName("Тестирование ответа из кэша в пределах окна свежести")
+    void get_whenResponseIsFresh_thenDoNotCallServer() {
+        server.respond(ok("\"1\"", FIRST_BODY));
+
+        get();
+        now.addAndGet(FRESH_FOR.toNanos() - 1);
+        ResponseEntity<Object> response = get();
+
+        assertEquals(1, server.requests.size());
+        assertArrayEquals(FIRST_BODY, (byte[]) response.getBody());
+        assertEquals("\"1\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Тестирование продления свежести после ответа 304")
+    void get_whenStaleResponseIsNotModified_thenReturnCachedAndRenew() {
+        server.respond(ok("\"1\"", FIRST_BODY), ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        get();
+        now.addAndGet(FRESH_FOR.toNanos());
+        ResponseEntity<Object> revalidated = get();
+        now.addAndGet(FRESH_FOR.toNanos() - 1);
+        ResponseEntity<Object> renewed = get();
+
+        assertEquals(2, server.requests.size());
+        assertTrue(server.requests.get(0).getIfNoneMatch().isEmpty());
+        assertEquals(List.of("\"1\""), server.requests.get(1).getIfNoneMatch());
+        assertEquals(HttpStatus.OK, revalidated.getStatusCode());
+        assertArrayEquals(FIRST_BODY, (byte[]) revalidated.getBody());
+        assertArrayEquals(FIRST_BODY, (byte[]) renewed.getBody());
+    }
+
+    @Test
+    @DisplayName("Тестирование замены устаревшего ответа новым")
+    void get_whenStaleResponseIsModified_thenStoreNewResponse() {
+        server.respond(ok("\"1\"", FIRST_BODY), ok("\"2\"", SECOND_BODY));
+
+        get();
+        now.addAndGet(FRESH_FOR.toNanos());
+        ResponseEntity<Object> modified = get();
+        ResponseEntity<Object> cached = get();
+
+        assertEquals(2, server.requests.size());
+        assertArrayEquals(SECOND_BODY, (byte[]) modified.getBody());
+        assertArrayEquals(SECOND_BODY, (byte[]) cached.getBody());
+        assertEquals("\"2\"", cached.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Тестирование отказа от кэширования ответа без ETag")
+    void get_whenResponseHasNoEtag_thenDoNotCache() {
+        server.respond(ok(null, FIRST_BODY), ok(null, FIRST_BODY));
+
+        get();
+        get();
+
+        assertEquals(2, server.requests.size());
+    }
+
+    @Test
+    @DisplayName("Тестирование сброса кэша после успешного изменения")
+    void getById_whenUserWasUpdated_thenCallServerAgain() {
+        UserClient userClient = new UserClient(server, responseCache);
+        UserDto update = UserDto.builder().name("second").build();
+        server.respond(ok("\"1\"", FIRST_BODY), ResponseEntity.badRequest().build(), ResponseEntity.ok().build(),
+                ok("\"2\"", SECOND_BODY));
+
+        userClient.getById(1L).block();
+        userClient.update(update, 1L).block();
+        userClient.getById(1L).block();
+        userClient.update(update, 1L).block();
+        ResponseEntity<Object> response = userClient.getById(1L).block();
+
+        assertEquals(List.of(HttpMethod.GET, HttpMethod.PATCH, HttpMethod.PATCH, HttpMethod.GET), server.methods);
+        assertArrayEquals(SECOND_BODY, (byte[]) response.getBody());
+    }
+
+    private ResponseEntity<Object> get() {
+        return responseCache.get(KEY, requestHeaders ->
+                server.create("/users").exchange(HttpMethod.GET, "/1", null, null, null, requestHeaders)).block();
+    }
+
+    private static ResponseEntity<Object> ok(String etag, byte[] body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        return builder.body(body);
+    }
+
+    private static class FakeServer implements ServerExchangeFactory {
+
+        private final Deque<ResponseEntity<Object>> responses = new ArrayDeque<>();
+        private final List<HttpHeaders> requests = new ArrayList<>();
+        private final List<HttpMethod> methods = new ArrayList<>();
+
+        @SafeVarargs
+        final void respond(ResponseEntity<Object>... responses) {
+            this.responses.addAll(List.of(responses));
+        }
+
+        @Override
+        public ServerExchange create(String apiPrefix) {
+            return (method, path, userId, parameters, body, requestHeaders) -> Mono.fromCallable(() -> {
+                methods.add(method);
+                requests.add(requestHeaders);
+                return responses.removeFirst();
+            });
+        }
+    }
+}
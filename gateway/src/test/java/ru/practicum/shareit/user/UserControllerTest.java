@@ -0,0 +1,67 @@
+package ru.practicum.shareit.user;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.SynchronousResponseConfig;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = UserController.class)
+@Import(SynchronousResponseConfig.class)
+class UserControllerTest {
+
+    private static final String USER_JSON = "{\"id\":1,\"name\":\"name\",\"email\":\"email@email.com\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserClient userClient;
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Тестирование синхронной отдачи ответа сервера без асинхронной обработки")
+    void get_whenServerResponds_thenWriteResponseWithoutAsyncDispatch() {
+        when(userClient.getById(1L)).thenReturn(Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag("\"1\"")
+                .body(USER_JSON.getBytes(StandardCharsets.UTF_8))));
+
+        mockMvc.perform(get("/users/{userId}", 1L))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(content().json(USER_JSON));
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Тестирование передачи статуса ошибки сервера")
+    void get_whenServerRespondsWithError_thenKeepStatus() {
+        when(userClient.getById(1L)).thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("{\"error\":\"not found\"}".getBytes(StandardCharsets.UTF_8))));
+
+        mockMvc.perform(get("/users/{userId}", 1L))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotFound())
+                .andExpect(content().json("{\"error\":\"not found\"}"));
+    }
+}
@@ -0,0 +1,252 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+@Slf4j
+@RequiredArgsConstructor
+public class DataSeeder {
+
+    static final String[] WORDS = {
+        "drill", "hammer", "ladder", "saw", "tent", "kayak", "bicycle", "camera", "tripod", "projector",
+        "mixer", "grill", "cooler", "helmet", "scooter", "tablet", "speaker", "stroller", "backpack", "compressor"
+    };
+
+    private static final String[] ADJECTIVES = {
+        "cordless", "electric", "folding", "portable", "heavy", "compact", "vintage", "waterproof"
+    };
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final Duration BOOKING_LENGTH = Duration.ofDays(2);
+
+    private static final Duration SUMMARY_REFRESH_TIMEOUT = Duration.ofMinutes(10);
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final LoadTestOptions options;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    public void seed() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            connection.setAutoCommit(false);
+            if (url.startsWith("jdbc:postgresql:")) {
+                truncate(connection);
+            }
+            seedUsers(connection);
+            seedRequests(connection, now);
+            seedItems(connection);
+            List<long[]> pastBookings = seedBookings(connection, now);
+            seedComments(connection, pastBookings, now);
+            seedBookingSummaries(connection);
+        }
+        log.info("Seeded {} users, {} requests, {} items, {} bookings and {} comments.", options.getUsers(),
+                options.getRequests(), options.getItems(), options.getBookings(), options.getComments());
+    }
+
+    public Duration awaitBookingSummaries() throws SQLException, InterruptedException {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + SUMMARY_REFRESH_TIMEOUT.toNanos();
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT COUNT(*) FROM item_booking_summary WHERE valid_until <= ?")) {
+            while (System.nanoTime() < deadline) {
+                statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    if (resultSet.getLong(1) == 0) {
+                        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+                        log.info("Server refreshed booking summaries of {} items in {} ms.", options.getItems(),
+                                elapsed.toMillis());
+                        return elapsed;
+                    }
+                }
+                Thread.sleep(100);
+            }
+        }
+        throw new IllegalStateException(String.format("Server did not refresh booking summaries in %s.",
+                SUMMARY_REFRESH_TIMEOUT));
+    }
+
+    static long ownerOf(long itemId, int users) {
+        return (itemId - 1) % users + 1;
+    }
+
+    private static void truncate(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE users, requests, items, bookings, comments, item_booking_summary " +
+                    "RESTART IDENTITY CASCADE");
+        }
+        connection.commit();
+    }
+
+    private void seedUsers(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO users (name, email) VALUES (?, ?)")) {
+            for (int i = 1; i <= options.getUsers(); i++) {
+                statement.setString(1, "user" + i);
+                statement.setString(2, "user" + i + "@shareit.ru");
+                addBatch(connection, statement, i);
+            }
+            flush(connection, statement);
+        }
+    }
+
+    private void seedRequests(Connection connection, LocalDateTime now) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO requests (description, requestor_id, created) VALUES (?, ?, ?)")) {
+            for (int i = 1; i <= options.getRequests(); i++) {
+                statement.setString(1, "Need a " + WORDS[random.nextInt(WORDS.length)] + " for the weekend");
+                statement.setLong(2, randomUser());
+                statement.setTimestamp(3, Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * 90))));
+                addBatch(connection, statement, i);
+            }
+            flush(connection, statement);
+        }
+    }
+
+    private void seedItems(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO items (name, description, available, owner_id, request_id) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= options.getItems(); i++) {
+                String word = WORDS[random.nextInt(WORDS.length)];
+                String adjective = ADJECTIVES[random.nextInt(ADJECTIVES.length)];
+                statement.setString(1, adjective + " " + word);
+                statement.setString(2, String.format("%s %s number %d in good condition", adjective, word, i));
+                statement.setBoolean(3, random.nextInt(10) != 0);
+                statement.setLong(4, ownerOf(i, options.getUsers()));
+                if (options.getRequests() > 0 && random.nextInt(5) == 0) {
+                    statement.setLong(5, random.nextInt(options.getRequests()) + 1);
+                } else {
+                    statement.setObject(5, null);
+                }
+                addBatch(connection, statement, i);
+            }
+            flush(connection, statement);
+        }
+    }
+
+    private void seedBookingSummaries(Connection connection) throws SQLException {
+        // Written last and empty, as migration V6 writes them for existing items; the server's sweep fills them in.
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO item_booking_summary (item_id, valid_until) VALUES (?, ?)")) {
+            for (int i = 1; i <= options.getItems(); i++) {
+                statement.setLong(1, i);
+                statement.setTimestamp(2, Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0)));
+                addBatch(connection, statement, i);
+            }
+            flush(connection, statement);
+        }
+    }
+
+    private List<long[]> seedBookings(Connection connection, LocalDateTime now) throws SQLException {
+        List<long[]> pastBookings = new ArrayList<>();
+        Map<Long, List<LocalDateTime>> activeStarts = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= options.getBookings(); i++) {
+                long itemId = random.nextInt(options.getItems()) + 1;
+                long bookerId = randomUser();
+                if (bookerId == ownerOf(itemId, options.getUsers())) {
+                    bookerId = bookerId % options.getUsers() + 1;
+                }
+
+                int kind = random.nextInt(10);
+                LocalDateTime start;
+                String status;
+                if (kind < 4) {
+                    start = now.minusDays(random.nextInt(365) + 3);
+                    status = "APPROVED";
+                } else if (kind < 5) {
+                    start = now.minusHours(random.nextInt(24) + 1);
+                    status = "APPROVED";
+                } else {
+                    start = now.plusDays(random.nextInt(90) + 1);
+                    status = kind < 7 ? "WAITING" : kind < 9 ? "APPROVED" : "REJECTED";
+                }
+                // Migration V5 forbids overlapping WAITING and APPROVED bookings of one item on PostgreSQL.
+                if (!"REJECTED".equals(status)) {
+                    List<LocalDateTime> starts = activeStarts.computeIfAbsent(itemId, key -> new ArrayList<>());
+                    if (overlaps(starts, start)) {
+                        status = "REJECTED";
+                    } else {
+                        starts.add(start);
+                    }
+                }
+                if (kind < 4 && "APPROVED".equals(status)) {
+                    pastBookings.add(new long[]{itemId, bookerId});
+                }
+                statement.setTimestamp(1, Timestamp.valueOf(start));
+                statement.setTimestamp(2, Timestamp.valueOf(start.plus(BOOKING_LENGTH)));
+                statement.setLong(3, itemId);
+                statement.setLong(4, bookerId);
+                statement.setString(5, status);
+                addBatch(connection, statement, i);
+            }
+            flush(connection, statement);
+        }
+        return pastBookings;
+    }
+
+    private void seedComments(Connection connection, List<long[]> pastBookings, LocalDateTime now)
+            throws SQLException {
+        if (pastBookings.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO comments (text, item_id, author_id, created) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= options.getComments(); i++) {
+                long[] booking = pastBookings.get(random.nextInt(pastBookings.size()));
+                statement.setString(1, "Worked fine, would rent again #" + i);
+                statement.setLong(2, booking[0]);
+                statement.setLong(3, booking[1]);
+                statement.setTimestamp(4, Timestamp.valueOf(now.minusDays(random.nextInt(30))));
+                addBatch(connection, statement, i);
+            }
+            flush(connection, statement);
+        }
+    }
+
+    private long randomUser() {
+        return random.nextInt(options.getUsers()) + 1;
+    }
+
+    private static boolean overlaps(List<LocalDateTime> starts, LocalDateTime start) {
+        for (LocalDateTime other : starts) {
+            if (Duration.between(other, start).abs().compareTo(BOOKING_LENGTH) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addBatch(Connection connection, PreparedStatement statement, int count) throws SQLException {
+        statement.addBatch();
+        if (count % BATCH_SIZE == 0) {
+            flush(connection, statement);
+        }
+    }
+
+    private static void flush(Connection connection, PreparedStatement statement) throws SQLException {
+        statement.executeBatch();
+        connection.commit();
+    }
+}
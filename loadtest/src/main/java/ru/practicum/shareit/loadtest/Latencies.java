@@ -0,0 +1,46 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.Arrays;
+
+public class Latencies {
+
+    private long[] nanos = new long[1024];
+    private int size;
+    private long errors;
+
+    public void record(long latencyNanos) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = latencyNanos;
+    }
+
+    public void recordError() {
+        errors++;
+    }
+
+    public void addAll(Latencies other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.nanos[i]);
+        }
+        errors += other.errors;
+    }
+
+    public int count() {
+        return size;
+    }
+
+    public long errors() {
+        return errors;
+    }
+
+    public double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(nanos, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * size) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
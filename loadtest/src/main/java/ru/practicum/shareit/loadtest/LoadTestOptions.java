@@ -0,0 +1,94 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class LoadTestOptions {
+
+    private static final String DEFAULT_MIX = "items:30,search:30,bookings:25,requests:15";
+
+    private final int users;
+    private final int items;
+    private final int requests;
+    private final int bookings;
+    private final int comments;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<String, Integer> mix;
+    private final Path serverJar;
+    private final Path gatewayJar;
+    private final List<String> serverArgs;
+    private final List<String> gatewayArgs;
+    private final String databaseUrl;
+    private final String databaseUser;
+    private final String databasePassword;
+    private final Path workDir;
+    private final Path output;
+
+    private LoadTestOptions(Map<String, String> values) {
+        users = Integer.parseInt(values.getOrDefault("users", "1000"));
+        items = Integer.parseInt(values.getOrDefault("items", "10000"));
+        requests = Integer.parseInt(values.getOrDefault("requests", "2000"));
+        bookings = Integer.parseInt(values.getOrDefault("bookings", "50000"));
+        comments = Integer.parseInt(values.getOrDefault("comments", "20000"));
+        concurrency = Integer.parseInt(values.getOrDefault("concurrency", "64"));
+        warmup = Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "15")));
+        duration = Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60")));
+        mix = parseMix(values.getOrDefault("mix", DEFAULT_MIX));
+        serverJar = Path.of(values.getOrDefault("server-jar", "server/target"));
+        gatewayJar = Path.of(values.getOrDefault("gateway-jar", "gateway/target"));
+        serverArgs = splitArgs(values.get("server-args"));
+        gatewayArgs = splitArgs(values.get("gateway-args"));
+        databaseUrl = values.get("database-url");
+        databaseUser = values.getOrDefault("database-user", "shareit");
+        databasePassword = values.getOrDefault("database-password", "shareit");
+        workDir = Path.of(values.getOrDefault("work-dir", "loadtest/target/run"));
+        output = Path.of(values.getOrDefault("output", "loadtest-result.json"));
+
+        if (users < 2 || items < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("Load test needs at least 2 users, 1 item and 1 worker.");
+        }
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException(String.format("Argument %s should look like --name=value.", arg));
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            if (!Scenario.ENDPOINTS.contains(parts[0])) {
+                throw new IllegalArgumentException(String.format("Unknown endpoint %s in mix, expected one of %s.",
+                        parts[0], Scenario.ENDPOINTS));
+            }
+            weights.put(parts[0], Integer.parseInt(parts[1]));
+        }
+        return weights;
+    }
+
+    private static List<String> splitArgs(String args) {
+        if (args == null || args.isBlank()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(args.trim().split("\\s+")));
+    }
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+public class Scenario {
+
+    static final List<String> ENDPOINTS = List.of("items", "search", "bookings", "requests");
+
+    private static final String[] STATES = {"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"};
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final int users;
+    private final String[] endpoints;
+    private final int[] cumulativeWeights;
+
+    public Scenario(String baseUrl, int users, Map<String, Integer> mix) {
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.endpoints = mix.keySet().toArray(new String[0]);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += mix.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Request mix should have a positive total weight.");
+        }
+    }
+
+    public Call next(SplittableRandom random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (roll >= cumulativeWeights[index]) {
+            index++;
+        }
+
+        long userId = random.nextInt(users) + 1;
+        switch (endpoints[index]) {
+            case "items":
+                return new Call("GET /items", get("/items?from=0&size=10", userId));
+            case "search":
+                String text = DataSeeder.WORDS[random.nextInt(DataSeeder.WORDS.length)];
+                return new Call("GET /items/search",
+                        get("/items/search?from=0&size=10&text=" + URLEncoder.encode(text, StandardCharsets.UTF_8),
+                                userId));
+            case "bookings":
+                String state = STATES[random.nextInt(STATES.length)];
+                return new Call("GET /bookings?state=" + state,
+                        get("/bookings?from=0&size=10&state=" + state, userId));
+            case "requests":
+                return new Call("GET /requests/all", get("/requests/all?from=0&size=10", userId));
+            default:
+                throw new IllegalStateException("Unknown endpoint " + endpoints[index]);
+        }
+    }
+
+    private HttpRequest get(String path, long userId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("X-Sharer-User-Id", String.valueOf(userId))
+                .timeout(REQUEST_TIMEOUT)
+                .build();
+    }
+
+    public static class Call {
+        final String name;
+        final HttpRequest request;
+
+        Call(String name, HttpRequest request) {
+            this.name = name;
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Slf4j
+public class ShareItLoadTest {
+
+    private static final String H2_USER = "test";
+    private static final String H2_PASSWORD = "test";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Path workDir = options.getWorkDir().toAbsolutePath();
+        Files.createDirectories(workDir);
+
+        String databaseUrl;
+        String databaseUser;
+        String databasePassword;
+        List<String> defaultServerArgs = new ArrayList<>();
+        if (options.getDatabaseUrl() == null) {
+            Files.deleteIfExists(workDir.resolve("shareit.mv.db"));
+            Files.deleteIfExists(workDir.resolve("shareit.trace.db"));
+            databaseUrl = "jdbc:h2:file:" + workDir.resolve("shareit") + ";AUTO_SERVER=TRUE";
+            databaseUser = H2_USER;
+            databasePassword = H2_PASSWORD;
+            defaultServerArgs.add("--spring.profiles.active=ci");
+        } else {
+            databaseUrl = options.getDatabaseUrl();
+            databaseUser = options.getDatabaseUser();
+            databasePassword = options.getDatabasePassword();
+        }
+        defaultServerArgs.addAll(List.of(
+                "--spring.datasource.url=" + databaseUrl,
+                "--spring.datasource.username=" + databaseUser,
+                "--spring.datasource.password=" + databasePassword,
+                "--spring.jpa.show_sql=false",
+                "--shareit.booking-summary.sweep-delay=1000",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.transaction.interceptor=WARN",
+                "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN"));
+        List<String> serverArgs = withOverrides(defaultServerArgs, options.getServerArgs());
+
+        try (ShareItProcess server = ShareItProcess.start("server", options.getServerJar(), serverArgs, workDir)) {
+            DataSeeder seeder = new DataSeeder(databaseUrl, databaseUser, databasePassword, options);
+            seeder.seed();
+            Duration summaryRefresh = seeder.awaitBookingSummaries();
+
+            List<String> gatewayArgs = withOverrides(List.of(
+                    "--shareit-server.url=" + server.url(),
+                    "--logging.level.root=WARN",
+                    "--logging.level.org.springframework.web.client.RestTemplate=WARN",
+                    "--logging.level.org.apache.http=WARN",
+                    "--logging.level.httpclient.wire=WARN"), options.getGatewayArgs());
+
+            try (ShareItProcess gateway = ShareItProcess.start("gateway", options.getGatewayJar(), gatewayArgs,
+                    workDir)) {
+                Scenario scenario = new Scenario(gateway.url(), options.getUsers(), options.getMix());
+                Map<String, Latencies> latencies = run(scenario, options);
+                report(latencies, summaryRefresh, options);
+            }
+        }
+    }
+
+    private static List<String> withOverrides(List<String> defaults, List<String> overrides) {
+        // Spring joins repeated command-line options with commas, so an override has to replace the default.
+        Map<String, String> args = new LinkedHashMap<>();
+        for (String arg : defaults) {
+            args.put(optionName(arg), arg);
+        }
+        for (String arg : overrides) {
+            args.put(optionName(arg), arg);
+        }
+        return new ArrayList<>(args.values());
+    }
+
+    private static String optionName(String arg) {
+        int separator = arg.indexOf('=');
+        return separator < 0 ? arg : arg.substring(0, separator);
+    }
+
+    private static Map<String, Latencies> run(Scenario scenario, LoadTestOptions options) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long measureFrom = System.nanoTime() + options.getWarmup().toNanos();
+        long until = measureFrom + options.getDuration().toNanos();
+        log.info("Running {} workers: {} s warmup, {} s measured.", options.getConcurrency(),
+                options.getWarmup().toSeconds(), options.getDuration().toSeconds());
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.getConcurrency());
+        try {
+            List<Future<Map<String, Latencies>>> results = new ArrayList<>();
+            for (int i = 0; i < options.getConcurrency(); i++) {
+                SplittableRandom random = new SplittableRandom(i);
+                results.add(workers.submit(() -> work(client, scenario, random, measureFrom, until)));
+            }
+
+            Map<String, Latencies> merged = new TreeMap<>();
+            for (Future<Map<String, Latencies>> result : results) {
+                result.get().forEach((name, latencies) ->
+                        merged.computeIfAbsent(name, key -> new Latencies()).addAll(latencies));
+            }
+            return merged;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static Map<String, Latencies> work(HttpClient client, Scenario scenario, SplittableRandom random,
+                                               long measureFrom, long until) throws InterruptedException {
+        Map<String, Latencies> latencies = new TreeMap<>();
+        while (System.nanoTime() < until) {
+            Scenario.Call call = scenario.next(random);
+            long startedAt = System.nanoTime();
+            boolean succeeded;
+            try {
+                succeeded = client.send(call.request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            } catch (IOException e) {
+                succeeded = false;
+            }
+            long finishedAt = System.nanoTime();
+            if (startedAt < measureFrom || finishedAt > until) {
+                continue;
+            }
+            Latencies endpoint = latencies.computeIfAbsent(call.name, key -> new Latencies());
+            if (succeeded) {
+                endpoint.record(finishedAt - startedAt);
+            } else {
+                endpoint.recordError();
+            }
+        }
+        return latencies;
+    }
+
+    private static void report(Map<String, Latencies> latencies, Duration summaryRefresh, LoadTestOptions options)
+            throws IOException {
+        double seconds = options.getDuration().toMillis() / 1000.0;
+        Latencies total = new Latencies();
+        latencies.values().forEach(total::addAll);
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        latencies.forEach((name, endpoint) -> rows.add(row(name, endpoint, seconds)));
+        rows.add(row("TOTAL", total, seconds));
+
+        log.info(String.format("%-28s %9s %7s %10s %9s %9s %9s", "endpoint", "requests", "errors", "req/s",
+                "p50 ms", "p99 ms", "p999 ms"));
+        for (Map<String, Object> row : rows) {
+            log.info(String.format("%-28s %9d %7d %10.1f %9.2f %9.2f %9.2f", row.get("endpoint"),
+                    row.get("requests"), row.get("errors"), row.get("throughput"), row.get("p50"),
+                    row.get("p99"), row.get("p999")));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("users", options.getUsers());
+        result.put("items", options.getItems());
+        result.put("requests", options.getRequests());
+        result.put("bookings", options.getBookings());
+        result.put("comments", options.getComments());
+        result.put("concurrency", options.getConcurrency());
+        result.put("durationSeconds", options.getDuration().toSeconds());
+        result.put("mix", options.getMix());
+        result.put("database", options.getDatabaseUrl() == null ? "h2" : "postgresql");
+        result.put("summaryRefreshMillis", summaryRefresh.toMillis());
+        result.put("endpoints", rows);
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(options.getOutput().toFile(), result);
+        log.info("Results are written to {}.", options.getOutput().toAbsolutePath());
+    }
+
+    private static Map<String, Object> row(String name, Latencies latencies, double seconds) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("endpoint", name);
+        row.put("requests", latencies.count());
+        row.put("errors", latencies.errors());
+        row.put("throughput", latencies.count() / seconds);
+        row.put("p50", latencies.percentileMillis(0.5));
+        row.put("p99", latencies.percentileMillis(0.99));
+        row.put("p999", latencies.percentileMillis(0.999));
+        return row;
+    }
+}
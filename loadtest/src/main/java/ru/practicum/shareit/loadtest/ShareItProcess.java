@@ -0,0 +1,114 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Slf4j
+public class ShareItProcess implements AutoCloseable {
+
+    private static final Duration HEALTH_TIMEOUT = Duration.ofSeconds(120);
+
+    private final String name;
+    private final Process process;
+    @Getter
+    private final int port;
+
+    private ShareItProcess(String name, Process process, int port) {
+        this.name = name;
+        this.process = process;
+        this.port = port;
+    }
+
+    public static ShareItProcess start(String name, Path jar, List<String> args, Path workDir)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(findJar(jar).toString());
+        command.add("--server.port=" + port);
+        command.addAll(args);
+
+        Path logFile = workDir.resolve(name + ".log");
+        log.info("Starting {} on port {}, log in {}.", name, port, logFile);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        ShareItProcess shareItProcess = new ShareItProcess(name, process, port);
+        try {
+            shareItProcess.awaitHealthy();
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            shareItProcess.close();
+            throw e;
+        }
+        return shareItProcess;
+    }
+
+    public String url() {
+        return "http://localhost:" + port;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    private void awaitHealthy() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url() + "/actuator/health")).build();
+        long deadline = System.nanoTime() + HEALTH_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(String.format("%s exited with code %s before becoming healthy.",
+                        name, process.exitValue()));
+            }
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.body().contains("\"UP\"")) {
+                    log.info("{} is healthy.", name);
+                    return;
+                }
+            } catch (IOException e) {
+                log.debug("{} is not up yet: {}", name, e.getMessage());
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(String.format("%s did not become healthy in %s.", name, HEALTH_TIMEOUT));
+    }
+
+    private static Path findJar(Path jar) throws IOException {
+        if (!Files.isDirectory(jar)) {
+            return jar;
+        }
+        try (Stream<Path> files = Files.list(jar)) {
+            return files.filter(file -> file.getFileName().toString().endsWith("-exec.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException(String.format("No executable jar in %s, " +
+                            "build it with ./mvnw package -DskipTests first.", jar)));
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.springframework.boot.convert.DurationStyle;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+public class CaffeineRegionFactory extends JCacheRegionFactory {
+
+    public static final String MAXIMUM_SIZE = "shareit.cache.entity.maximum-size";
+    public static final String EXPIRE_AFTER_WRITE = "shareit.cache.entity.expire-after-write";
+
+    private CaffeineConfiguration<Object, Object> configuration;
+
+    // JCacheRegionFactory declares the parameter as a raw Map, so an override cannot narrow it to Map<?, ?>.
+    @Override
+    @SuppressWarnings("rawtypes")
+    protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map properties) {
+        return resolveCacheManager((Map<?, ?>) properties);
+    }
+
+    private CacheManager resolveCacheManager(Map<?, ?> properties) {
+        configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(Long.parseLong(
+                getProperty(properties, MAXIMUM_SIZE, "10000"))));
+        configuration.setExpireAfterWrite(OptionalLong.of(DurationStyle.detectAndParse(
+                getProperty(properties, EXPIRE_AFTER_WRITE, "10m")).toNanos()));
+        configuration.setStatisticsEnabled(Boolean.parseBoolean(
+                getProperty(properties, AvailableSettings.GENERATE_STATISTICS, "false")));
+
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("shareit-entity-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+    }
+
+    @Override
+    protected Cache<Object, Object> createCache(String regionName) {
+        return getCacheManager().createCache(regionName, configuration);
+    }
+
+    private static String getProperty(Map<?, ?> properties, String name, String defaultValue) {
+        Object value = properties.get(name);
+        return value != null ? String.valueOf(value) : defaultValue;
+    }
+}
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class EntityCacheConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheProperties(
+            @Value("${shareit.cache.entity.maximum-size:10000}") long maximumSize,
+            @Value("${shareit.cache.entity.expire-after-write:10m}") Duration expireAfterWrite) {
+        return properties -> {
+            properties.put(CaffeineRegionFactory.MAXIMUM_SIZE, maximumSize);
+            properties.put(CaffeineRegionFactory.EXPIRE_AFTER_WRITE, expireAfterWrite);
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.cache;
+
+public interface EntityVersion {
+    Long getId();
+
+    Long getVersion();
+}
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.cache;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static java.util.stream.Collectors.joining;
+
+public final class VersionEtag {
+
+    private VersionEtag() {
+    }
+
+    public static String of(Object... parts) {
+        String versions = Arrays.stream(parts)
+                .map(VersionEtag::format)
+                .collect(joining("|"));
+        return DigestUtils.md5DigestAsHex(versions.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String format(Object part) {
+        if (part instanceof Collection) {
+            return ((Collection<?>) part).stream()
+                    .map(VersionEtag::format)
+                    .collect(joining(",", "[", "]"));
+        }
+        if (part instanceof EntityVersion) {
+            EntityVersion entityVersion = (EntityVersion) part;
+            return entityVersion.getId() + ":" + entityVersion.getVersion();
+        }
+        return String.valueOf(part);
+    }
+}
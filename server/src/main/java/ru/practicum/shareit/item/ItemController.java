@@ -1,11 +1,14 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.item.comment.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -30,7 +33,11 @@ public class ItemController {
 
     @GetMapping("/{itemId}")
     public ItemDto get(@RequestHeader("X-Sharer-User-Id") Long userId,
-                       @PathVariable Long itemId) {
+                       @PathVariable Long itemId,
+                       WebRequest webRequest) {
+        if (webRequest.checkNotModified(itemService.getItemEtag(userId, itemId))) {
+            return null;
+        }
         return itemService.getItemById(userId, itemId);
     }
 
@@ -49,6 +56,18 @@ public class ItemController {
         return itemService.searchItems(userId, text, from, size);
     }
 
+    @GetMapping("/available")
+    public List<ItemDto> searchAvailableItems(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                              @RequestParam(name = "text") String text,
+                                              @RequestParam(name = "start")
+                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+                                              @RequestParam(name = "end")
+                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+                                              @RequestParam(value = "from", defaultValue = "0") Integer from,
+                                              @RequestParam(value = "size", defaultValue = "10") Integer size) {
+        return itemService.searchAvailableItems(userId, text, start, end, from, size);
+    }
+
     @PostMapping("/{itemId}/comment")
     public CommentDto createComment(@RequestHeader("X-Sharer-User-Id") Long userId,
                                     @RequestBody CommentDto commentDto,
@@ -1,7 +1,7 @@
 package ru.practicum.shareit.item;
 
 import lombok.experimental.UtilityClass;
-import ru.practicum.shareit.item.booking.model.Booking;
+import ru.practicum.shareit.item.booking.dto.BookingItemDto;
 import ru.practicum.shareit.item.comment.CommentMapper;
 import ru.practicum.shareit.item.comment.model.Comment;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -9,11 +9,8 @@ import ru.practicum.shareit.item.model.Item;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
-import static ru.practicum.shareit.item.booking.BookingMapper.toBookingItemDto;
-
 @UtilityClass
 public class ItemMapper {
     public static ItemDto toItemDto(Item item) {
@@ -27,7 +24,8 @@ public class ItemMapper {
                 .build();
     }
 
-    public static ItemDto toItemDto(Item item, Booking lastBooking, Booking nextBooking, List<Comment> comments) {
+    public static ItemDto toItemDto(Item item, BookingItemDto lastBooking, BookingItemDto nextBooking,
+                                    List<Comment> comments) {
 
         return ItemDto.builder()
                 .id(item.getId())
@@ -35,8 +33,8 @@ public class ItemMapper {
                 .description(item.getDescription())
                 .available(item.getAvailable())
                 .requestId(item.getRequestId())
-                .lastBooking(!Objects.isNull(lastBooking) ? toBookingItemDto(lastBooking) : null)
-                .nextBooking(!Objects.isNull(nextBooking) ? toBookingItemDto(nextBooking) : null)
+                .lastBooking(lastBooking)
+                .nextBooking(nextBooking)
                 .comments(!comments.isEmpty() ? comments.stream().map(CommentMapper::toCommentDto).collect(Collectors.toList()) : Collections.emptyList())
                 .build();
     }
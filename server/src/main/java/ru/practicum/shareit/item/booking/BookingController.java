@@ -5,6 +5,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.booking.dto.BookingDto;
 import ru.practicum.shareit.item.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.item.booking.dto.BookingPageDto;
 import ru.practicum.shareit.item.booking.model.BookingState;
 import ru.practicum.shareit.item.booking.service.BookingService;
 
@@ -65,4 +66,30 @@ public class BookingController {
 
         return bookingService.getAllByOwner(userId, bookingState, from, size);
     }
+
+    @GetMapping("/cursor")
+    public BookingPageDto getPage(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                  @RequestParam(value = "state", defaultValue = "ALL") String bookingState,
+                                  @RequestParam(value = "cursor", required = false) String cursor,
+                                  @RequestParam(value = "size", defaultValue = "10") Integer size) {
+        BookingState state = BookingState.from(bookingState);
+        if (Objects.isNull(state)) {
+            throw new IllegalArgumentException(String.format("Unknown state: %s", bookingState));
+        }
+
+        return bookingService.getPageByBooker(userId, bookingState, cursor, size);
+    }
+
+    @GetMapping("/owner/cursor")
+    public BookingPageDto getPageByOwner(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                         @RequestParam(value = "state", defaultValue = "ALL") String bookingState,
+                                         @RequestParam(value = "cursor", required = false) String cursor,
+                                         @RequestParam(value = "size", defaultValue = "10") Integer size) {
+        BookingState state = BookingState.from(bookingState);
+        if (Objects.isNull(state)) {
+            throw new IllegalArgumentException(String.format("Unknown state: %s", bookingState));
+        }
+
+        return bookingService.getPageByOwner(userId, bookingState, cursor, size);
+    }
 }
@@ -4,11 +4,14 @@ import lombok.experimental.UtilityClass;
 import ru.practicum.shareit.item.booking.dto.BookingDto;
 import ru.practicum.shareit.item.booking.dto.BookingDtoOut;
 import ru.practicum.shareit.item.booking.dto.BookingItemDto;
+import ru.practicum.shareit.item.booking.dto.ItemBookingsView;
 import ru.practicum.shareit.item.booking.model.Booking;
 import ru.practicum.shareit.item.booking.model.BookingStatus;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.Objects;
+
 @UtilityClass
 public class BookingMapper {
     public static Booking toBooking(BookingDto bookingDto, Item item, User user) {
@@ -38,4 +41,26 @@ public class BookingMapper {
                 .bookerId(booking.getBooker().getId())
                 .build();
     }
+
+    public static BookingItemDto toLastBookingItemDto(ItemBookingsView bookings) {
+        if (Objects.isNull(bookings) || Objects.isNull(bookings.getLastBookingId())) {
+            return null;
+        }
+
+        return BookingItemDto.builder()
+                .id(bookings.getLastBookingId())
+                .bookerId(bookings.getLastBookerId())
+                .build();
+    }
+
+    public static BookingItemDto toNextBookingItemDto(ItemBookingsView bookings) {
+        if (Objects.isNull(bookings) || Objects.isNull(bookings.getNextBookingId())) {
+            return null;
+        }
+
+        return BookingItemDto.builder()
+                .id(bookings.getNextBookingId())
+                .bookerId(bookings.getNextBookerId())
+                .build();
+    }
 }
@@ -0,0 +1,8 @@
+package ru.practicum.shareit.item.booking.dao;
+
+import java.time.LocalDateTime;
+
+public interface BookingOverlapRepository {
+
+    boolean existsActiveBookingBetween(Long itemId, LocalDateTime start, LocalDateTime end);
+}
@@ -0,0 +1,40 @@
+package ru.practicum.shareit.item.booking.dao;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+
+public class BookingOverlapRepositoryImpl implements BookingOverlapRepository {
+
+    private static final String RANGE_OVERLAP = "SELECT EXISTS (SELECT 1 FROM bookings b " +
+            "WHERE b.item_id = :itemId " +
+            "AND b.status IN ('WAITING', 'APPROVED') " +
+            "AND tsrange(b.start_date, b.end_date, '[)') && tsrange(:start, :end, '[)'))";
+
+    private static final String BOUNDS_OVERLAP = "SELECT EXISTS (SELECT 1 FROM bookings b " +
+            "WHERE b.item_id = :itemId " +
+            "AND b.status IN ('WAITING', 'APPROVED') " +
+            "AND b.start_date < :end " +
+            "AND b.end_date > :start)";
+
+    private final String overlapQuery;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BookingOverlapRepositoryImpl(
+            @Value("${shareit.booking.range-overlap-query:false}") boolean rangeOverlapQuery) {
+        this.overlapQuery = rangeOverlapQuery ? RANGE_OVERLAP : BOUNDS_OVERLAP;
+    }
+
+    @Override
+    public boolean existsActiveBookingBetween(Long itemId, LocalDateTime start, LocalDateTime end) {
+        return (Boolean) entityManager.createNativeQuery(overlapQuery)
+                .setParameter("itemId", itemId)
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.booking.dao;
+
+import ru.practicum.shareit.item.booking.model.Booking;
+import ru.practicum.shareit.item.booking.model.BookingParty;
+import ru.practicum.shareit.item.booking.model.BookingState;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookingPageRepository {
+
+    List<Booking> findPageFromCursor(BookingParty party, Long userId, BookingState state, LocalDateTime now,
+                                     LocalDateTime cursorStart, Long cursorId, int limit);
+}
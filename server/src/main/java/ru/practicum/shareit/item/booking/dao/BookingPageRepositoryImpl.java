@@ -0,0 +1,71 @@
+package ru.practicum.shareit.item.booking.dao;
+
+import ru.practicum.shareit.item.booking.model.Booking;
+import ru.practicum.shareit.item.booking.model.BookingParty;
+import ru.practicum.shareit.item.booking.model.BookingState;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BookingPageRepositoryImpl implements BookingPageRepository {
+
+    private static final String BOOKINGS = "SELECT b FROM Booking b " +
+            "JOIN Item i ON i.id = b.item.id ";
+
+    private static final String FROM_CURSOR = "AND b.start <= :cursorStart " +
+            "AND (b.start < :cursorStart OR b.id < :cursorId) " +
+            "ORDER BY b.start DESC, b.id DESC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Booking> findPageFromCursor(BookingParty party, Long userId, BookingState state, LocalDateTime now,
+                                            LocalDateTime cursorStart, Long cursorId, int limit) {
+        String stateCondition = stateCondition(state);
+        TypedQuery<Booking> query = entityManager.createQuery(BOOKINGS + partyCondition(party) + stateCondition +
+                        FROM_CURSOR, Booking.class)
+                .setHint("javax.persistence.fetchgraph", entityManager.getEntityGraph("Booking.itemAndBooker"))
+                .setParameter("userId", userId)
+                .setParameter("cursorStart", cursorStart)
+                .setParameter("cursorId", cursorId)
+                .setMaxResults(limit);
+        if (stateCondition.contains(":now")) {
+            query.setParameter("now", now);
+        }
+        return query.getResultList();
+    }
+
+    private static String partyCondition(BookingParty party) {
+        switch (party) {
+            case BOOKER:
+                return "WHERE b.booker.id = :userId ";
+            case OWNER:
+                return "WHERE i.owner.id = :userId ";
+            default:
+                throw new IllegalArgumentException("Unknown party: " + party);
+        }
+    }
+
+    private static String stateCondition(BookingState state) {
+        switch (state) {
+            case ALL:
+                return "";
+            case CURRENT:
+                return "AND :now BETWEEN b.start AND b.end ";
+            case PAST:
+                return "AND b.end < :now ";
+            case FUTURE:
+                return "AND b.start > :now ";
+            case WAITING:
+                return "AND b.status = 'WAITING' AND b.start > :now ";
+            case REJECTED:
+                return "AND b.status = 'REJECTED' ";
+            default:
+                throw new IllegalArgumentException("Unknown state: " + state);
+        }
+    }
+}
@@ -1,27 +1,48 @@
 package ru.practicum.shareit.item.booking.dao;
 
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.booking.dto.ItemBookingsView;
 import ru.practicum.shareit.item.booking.model.Booking;
 import ru.practicum.shareit.item.booking.model.BookingStatus;
-import ru.practicum.shareit.item.model.Item;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingOverlapRepository,
+        BookingPageRepository {
 
+    @Override
+    @EntityGraph("Booking.itemAndBooker")
+    Optional<Booking> findById(Long bookingId);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE Booking b SET b.status = :status, b.version = b.version + 1 " +
+            "WHERE b.id = :bookingId " +
+            "AND b.status = ru.practicum.shareit.item.booking.model.BookingStatus.WAITING " +
+            "AND b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId)")
+    int updateStatusIfWaiting(Long bookingId, Long ownerId, BookingStatus status);
+
+    @Query("SELECT DISTINCT b.item.id FROM Booking b " +
+            "WHERE b.booker.id = :userId " +
+            "AND b.status = ru.practicum.shareit.item.booking.model.BookingStatus.APPROVED")
+    List<Long> findApprovedItemIdsByBookerId(Long userId);
+
+    @EntityGraph("Booking.itemAndBooker")
     @Query(value = "SELECT b FROM Booking b " +
             "JOIN Item i ON i.id = b.item.id " +
             "WHERE b.booker.id = :userId " +
             "ORDER BY b.start DESC")
     List<Booking> findAllByBookerId(Long userId, Pageable pageable);
 
+    @EntityGraph("Booking.itemAndBooker")
     @Query(value = "SELECT b FROM Booking b " +
             "JOIN Item i ON i.id = b.item.id " +
             "WHERE b.booker.id = :userId " +
@@ -29,6 +50,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "ORDER BY b.start DESC")
     List<Booking> findAllCurrentBookingsByBookerId(Long userId, LocalDateTime now, Pageable pageable);
 
+    @EntityGraph("Booking.itemAndBooker")
     @Query(value = "SELECT b FROM Booking b " +
             "JOIN Item i ON i.id = b.item.id " +
             "WHERE b.booker.id = :userId " +
@@ -36,6 +58,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "ORDER BY b.start DESC")
     List<Booking> findAllPastBookingsByBookerId(Long userId, LocalDateTime now, Pageable pageable);
 
+    @EntityGraph("Booking.itemAndBooker")
     @Query(value = "SELECT b FROM Booking b " +
             "JOIN Item i ON i.id = b.item.id " +
             "WHERE b.booker.id = :userId " +
@@ -43,6 +66,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "ORDER BY b.start DESC")
     List<Booking> findAllFutureBookingsByBookerId(Long userId, LocalDateTime now, Pageable pageable);
 
+    @EntityGraph("Booking.itemAndBooker")
     @Query(value = "SELECT b FROM Booking b " +
             "JOIN Item i ON i.id = b.item.id " +
             "WHERE b.booker.id = :userId " +
@@ -51,6 +75,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "ORDER BY b.start DESC")
     List<Booking> findAllWaitingBookingsByBookerId(Long userId, LocalDateTime now, Pageable pageable);
 
+    @EntityGraph("Booking.itemAndBooker")
     @Query(value = "SELECT b FROM Booking b " +
             "JOIN Item i ON i.id = b.item.id " +
             "WHERE b.booker.id = :userId " +
@@ -58,12 +83,14 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "ORDER BY b.start DESC")
     List<Booking> findAllRejectedBookingsByBookerId(Long userId, Pageable pageable);
 
+    @EntityGraph("Booking.itemAndBooker")
     @Query("SELECT b FROM Booking b " +
             "JOIN Item i ON i.id = b.item.id " +
             "WHERE i.owner.id = :userId " +
             "ORDER BY b.start DESC")
     List<Booking> findAllByOwnerId(Long userId, Pageable pageable);
 
+    @EntityGraph("Booking.itemAndBooker")
     @Query("SELECT b FROM Booking b " +
             "JOIN Item i ON i.id = b.item.id " +
             "WHERE i.owner.id = :userId " +
@@ -71,6 +98,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "ORDER BY b.start DESC")
     List<Booking> findAllCurrentBookingsByOwnerId(Long userId, LocalDateTime now, Pageable pageable);
 
+    @EntityGraph("Booking.itemAndBooker")
     @Query("SELECT b FROM Booking b " +
             "JOIN Item i ON i.id = b.item.id " +
             "WHERE i.owner.id = :userId " +
@@ -78,6 +106,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "ORDER BY b.start DESC")
     List<Booking> findAllPastBookingsByOwnerId(Long userId, LocalDateTime now, Pageable pageable);
 
+    @EntityGraph("Booking.itemAndBooker")
     @Query("SELECT b FROM Booking b " +
             "JOIN Item i ON i.id = b.item.id " +
             "WHERE i.owner.id = :userId " +
@@ -85,6 +114,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "ORDER BY b.start DESC")
     List<Booking> findAllFutureBookingsByOwnerId(Long userId, LocalDateTime now, Pageable pageable);
 
+    @EntityGraph("Booking.itemAndBooker")
     @Query(value = "SELECT b FROM Booking b " +
             "JOIN Item i ON i.id = b.item.id " +
             "WHERE i.owner.id = :userId " +
@@ -93,6 +123,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "ORDER BY b.start DESC")
     List<Booking> findAllWaitingBookingsByOwnerId(Long userId, LocalDateTime now, Pageable pageable);
 
+    @EntityGraph("Booking.itemAndBooker")
     @Query(value = "SELECT b FROM Booking b " +
             "JOIN Item i ON i.id = b.item.id " +
             "WHERE i.owner.id = :userId " +
@@ -108,23 +139,23 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "AND b.end < :now ")
     List<Booking> findAllByUserBookings(Long userId, Long itemId, LocalDateTime now);
 
-    @Query(value = "SELECT * FROM bookings b " +
-            "JOIN items i ON i.id = b.item_id " +
-            "WHERE b.item_id = :itemId " +
+    @Query(value = "SELECT i.id AS itemId, " +
+            "l.id AS lastBookingId, l.booker_id AS lastBookerId, " +
+            "n.id AS nextBookingId, n.booker_id AS nextBookerId, n.start_date AS nextStart " +
+            "FROM items i " +
+            "LEFT JOIN bookings l ON l.id = (SELECT b.id FROM bookings b " +
+            "WHERE b.item_id = i.id " +
+            "AND b.status = 'APPROVED' " +
             "AND b.start_date < :currentTime " +
+            "ORDER BY b.start_date DESC, b.id DESC " +
+            "LIMIT 1) " +
+            "LEFT JOIN bookings n ON n.id = (SELECT b.id FROM bookings b " +
+            "WHERE b.item_id = i.id " +
             "AND b.status = 'APPROVED' " +
-            "ORDER BY b.start_date DESC LIMIT 1",
-            nativeQuery = true)
-    Optional<Booking> getLastBooking(Long itemId, LocalDateTime currentTime);
-
-    @Query(value = "SELECT * FROM bookings b " +
-            "JOIN items i ON i.id = b.item_id " +
-            "WHERE b.item_id = :itemId " +
             "AND b.start_date > :currentTime " +
-            "AND b.status = 'APPROVED' " +
-            "ORDER BY b.start_date ASC LIMIT 1",
+            "ORDER BY b.start_date ASC, b.id ASC " +
+            "LIMIT 1) " +
+            "WHERE i.id IN (:itemIds)",
             nativeQuery = true)
-    Optional<Booking> getNextBooking(Long itemId, LocalDateTime currentTime);
-
-    List<Booking> findAllByItemInAndStatus(List<Item> items, BookingStatus status, Sort start);
+    List<ItemBookingsView> findLastAndNextBookings(Collection<Long> itemIds, LocalDateTime currentTime);
 }
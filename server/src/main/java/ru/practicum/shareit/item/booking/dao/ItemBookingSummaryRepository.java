@@ -0,0 +1,27 @@
+package ru.practicum.shareit.item.booking.dao;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.booking.model.ItemBookingSummary;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ItemBookingSummaryRepository extends JpaRepository<ItemBookingSummary, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<ItemBookingSummary> findAllByItemIdInOrderByItemIdAsc(Collection<Long> itemIds);
+
+    @Query("SELECT s.itemId FROM ItemBookingSummary s " +
+            "WHERE s.validUntil <= :now " +
+            "ORDER BY s.validUntil ASC")
+    List<Long> findExpiredItemIds(LocalDateTime now, Pageable pageable);
+
+    List<ItemBookingSummary> findAllByValidUntilBetween(LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.booking.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BookingPageDto {
+    private List<BookingDtoOut> bookings;
+
+    private String nextCursor;
+}
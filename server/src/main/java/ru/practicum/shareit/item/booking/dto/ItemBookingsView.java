@@ -0,0 +1,17 @@
+package ru.practicum.shareit.item.booking.dto;
+
+import java.time.LocalDateTime;
+
+public interface ItemBookingsView {
+    Long getItemId();
+
+    Long getLastBookingId();
+
+    Long getLastBookerId();
+
+    Long getNextBookingId();
+
+    Long getNextBookerId();
+
+    LocalDateTime getNextStart();
+}
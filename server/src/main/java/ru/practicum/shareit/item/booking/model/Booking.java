@@ -15,6 +15,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 @Entity
+@NamedEntityGraph(name = "Booking.itemAndBooker",
+        attributeNodes = {
+                @NamedAttributeNode(value = "item", subgraph = "item.owner"),
+                @NamedAttributeNode("booker")
+        },
+        subgraphs = @NamedSubgraph(name = "item.owner", attributeNodes = @NamedAttributeNode("owner")))
 @Table(name = "bookings")
 public class Booking {
     @Id
@@ -27,15 +33,19 @@ public class Booking {
     @Column(name = "end_date", nullable = false)
     private LocalDateTime end;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "item_id", nullable = false)
     private Item item;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "booker_id", nullable = false)
     private User booker;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "status")
     private BookingStatus status;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
 }
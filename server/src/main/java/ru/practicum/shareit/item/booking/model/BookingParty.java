@@ -0,0 +1,5 @@
+package ru.practicum.shareit.item.booking.model;
+
+public enum BookingParty {
+    BOOKER, OWNER
+}
@@ -1,5 +1,9 @@
 package ru.practicum.shareit.item.booking.model;
 
+import java.util.List;
+
 public enum BookingStatus {
-    WAITING, APPROVED, REJECTED, CANCELED
+    WAITING, APPROVED, REJECTED, CANCELED;
+
+    public static final List<BookingStatus> ACTIVE = List.of(WAITING, APPROVED);
 }
@@ -0,0 +1,67 @@
+package ru.practicum.shareit.item.booking.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.item.booking.dto.ItemBookingsView;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "item_booking_summary")
+public class ItemBookingSummary implements ItemBookingsView {
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "last_booking_id")
+    private Long lastBookingId;
+
+    @Column(name = "last_booker_id")
+    private Long lastBookerId;
+
+    @Column(name = "next_booking_id")
+    private Long nextBookingId;
+
+    @Column(name = "next_booker_id")
+    private Long nextBookerId;
+
+    @Column(name = "valid_until")
+    private LocalDateTime validUntil;
+
+    public static ItemBookingSummary empty(Long itemId) {
+        return ItemBookingSummary.builder()
+                .itemId(itemId)
+                .build();
+    }
+
+    public static ItemBookingSummary of(ItemBookingsView bookings) {
+        return ItemBookingSummary.builder()
+                .itemId(bookings.getItemId())
+                .lastBookingId(bookings.getLastBookingId())
+                .lastBookerId(bookings.getLastBookerId())
+                .nextBookingId(bookings.getNextBookingId())
+                .nextBookerId(bookings.getNextBookerId())
+                .validUntil(bookings.getNextStart())
+                .build();
+    }
+
+    public boolean isValidAt(LocalDateTime now) {
+        return Objects.isNull(validUntil) || now.isBefore(validUntil);
+    }
+
+    @Override
+    public LocalDateTime getNextStart() {
+        return validUntil;
+    }
+}
@@ -2,6 +2,7 @@ package ru.practicum.shareit.item.booking.service;
 
 import ru.practicum.shareit.item.booking.dto.BookingDto;
 import ru.practicum.shareit.item.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.item.booking.dto.BookingPageDto;
 
 import java.util.List;
 
@@ -15,4 +16,8 @@ public interface BookingService {
     List<BookingDtoOut> getAllByBooker(Long userId, String bookingState, Integer from, Integer size);
 
     List<BookingDtoOut> getAllByOwner(Long userId, String bookingState, Integer from, Integer size);
+
+    BookingPageDto getPageByBooker(Long userId, String bookingState, String cursor, Integer size);
+
+    BookingPageDto getPageByOwner(Long userId, String bookingState, String cursor, Integer size);
 }
@@ -1,18 +1,24 @@
 package ru.practicum.shareit.item.booking.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.ObjectNotFoundException;
 import ru.practicum.shareit.exceptions.BookingValidationException;
 import ru.practicum.shareit.item.booking.BookingMapper;
 import ru.practicum.shareit.item.booking.dao.BookingRepository;
+import ru.practicum.shareit.item.booking.dto.BookingCursor;
 import ru.practicum.shareit.item.booking.dto.BookingDto;
 import ru.practicum.shareit.item.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.item.booking.dto.BookingPageDto;
 import ru.practicum.shareit.item.booking.model.Booking;
+import ru.practicum.shareit.item.booking.model.BookingParty;
 import ru.practicum.shareit.item.booking.model.BookingState;
 import ru.practicum.shareit.item.booking.model.BookingStatus;
 import ru.practicum.shareit.item.dao.ItemRepository;
@@ -31,12 +37,16 @@ import static ru.practicum.shareit.user.UserMapper.toUser;
 
 @Slf4j
 @Service
+@Timed(value = "shareit.service", histogram = true)
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
+    public static final int MAX_PAGE_SIZE = 1000;
+
     private final BookingRepository bookingRepository;
     private final UserService userService;
     private final ItemRepository itemRepository;
+    private final ItemBookingSummaries itemBookingSummaries;
 
     @Override
     @Transactional
@@ -49,8 +59,11 @@ public class BookingServiceImpl implements BookingService {
             throw new ObjectNotFoundException(String.format("Item with id %s have not found.", bookingDto.getItemId()));
         }
         Item item = itemById.get();
+        Hibernate.initialize(item.getOwner());
 
         bookingValidation(bookingDto, user, item);
+        itemBookingSummaries.lock(item.getId());
+        checkItemIsFree(item, bookingDto);
         Booking booking = toBooking(bookingDto, item, user);
 
         return BookingMapper.toBookingDtoOut(bookingRepository.save(booking));
@@ -60,31 +73,20 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional
     public BookingDtoOut update(Long userId, Long bookingId, Boolean approved) {
-        Optional<Booking> bookingById = bookingRepository.findById(bookingId);
-
-        if (bookingById.isEmpty()) {
-            throw new ObjectNotFoundException(String.format("Booking with id %s was not found.", bookingId));
-        }
-
-        Booking booking = bookingById.get();
-
-        if (!booking.getItem().getOwner().getId().equals(userId)) {
-            throw new ObjectNotFoundException(String.format("User with id %s is not owner to item with id %s",
-                    booking.getItem().getOwner().getId(), booking.getItem().getId()));
-        }
+        BookingStatus status = approved ? BookingStatus.APPROVED : BookingStatus.REJECTED;
 
-        if (!booking.getStatus().equals(BookingStatus.WAITING)) {
-            throw new BookingValidationException(String.format("Booking with id %s already changed status",
-                    booking.getId()));
+        if (bookingRepository.updateStatusIfWaiting(bookingId, userId, status) == 0) {
+            throw statusChangeRejection(userId, bookingId);
         }
 
-        if (approved) {
-            booking.setStatus(BookingStatus.APPROVED);
-        } else {
-            booking.setStatus(BookingStatus.REJECTED);
+        Booking booking = bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new ObjectNotFoundException(
+                        String.format("Booking with id %s was not found.", bookingId)));
+        if (status == BookingStatus.APPROVED) {
+            itemBookingSummaries.refresh(List.of(booking.getItem().getId()));
         }
 
-        return toBookingDtoOut(bookingRepository.save(booking));
+        return toBookingDtoOut(booking);
     }
 
     @Override
@@ -109,7 +111,7 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional(readOnly = true)
     public List<BookingDtoOut> getAllByBooker(Long userId, String bookingState, Integer from, Integer size) {
-        userService.getUserById(userId);
+        userService.checkUserExists(userId);
 
         Pageable pageable = PageRequest.of(from / size, size);
 
@@ -150,7 +152,7 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional(readOnly = true)
     public List<BookingDtoOut> getAllByOwner(Long userId, String bookingState, Integer from, Integer size) {
-        userService.getUserById(userId);
+        userService.checkUserExists(userId);
 
         Pageable pageable = PageRequest.of(from / size, size);
 
@@ -188,6 +190,48 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BookingPageDto getPageByBooker(Long userId, String bookingState, String cursor, Integer size) {
+        return getPage(BookingParty.BOOKER, userId, bookingState, cursor, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookingPageDto getPageByOwner(Long userId, String bookingState, String cursor, Integer size) {
+        return getPage(BookingParty.OWNER, userId, bookingState, cursor, size);
+    }
+
+    private BookingPageDto getPage(BookingParty party, Long userId, String bookingState, String cursor, Integer size) {
+        userService.checkUserExists(userId);
+        checkPageSize(size);
+
+        BookingCursor from = BookingCursor.decode(cursor);
+        List<Booking> bookings = bookingRepository.findPageFromCursor(party, userId, BookingState.valueOf(bookingState),
+                LocalDateTime.now(), from.getStart(), from.getId(), size + 1);
+
+        return toBookingPageDto(bookings, size);
+    }
+
+    private void checkPageSize(Integer size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BookingValidationException(String.format("Page size %s should be between 1 and %s.", size,
+                    MAX_PAGE_SIZE));
+        }
+    }
+
+    private BookingPageDto toBookingPageDto(List<Booking> bookings, Integer size) {
+        boolean hasNext = bookings.size() > size;
+        List<Booking> page = hasNext ? bookings.subList(0, size) : bookings;
+
+        return BookingPageDto.builder()
+                .bookings(page.stream()
+                        .map(BookingMapper::toBookingDtoOut)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext ? BookingCursor.of(page.get(size - 1)).encode() : null)
+                .build();
+    }
+
     private void bookingValidation(BookingDto bookingDto, User user, Item item) {
 
         if (bookingDto.getStart().isBefore(LocalDateTime.now())) {
@@ -218,4 +262,29 @@ public class BookingServiceImpl implements BookingService {
             );
         }
     }
+
+    private void checkItemIsFree(Item item, BookingDto bookingDto) {
+        if (bookingRepository.existsActiveBookingBetween(item.getId(), bookingDto.getStart(), bookingDto.getEnd())) {
+            throw new ConflictException(String.format("Item with id %s is already booked between %s and %s.",
+                    item.getId(), bookingDto.getStart(), bookingDto.getEnd()));
+        }
+    }
+
+    private RuntimeException statusChangeRejection(Long userId, Long bookingId) {
+        Optional<Booking> bookingById = bookingRepository.findById(bookingId);
+
+        if (bookingById.isEmpty()) {
+            return new ObjectNotFoundException(String.format("Booking with id %s was not found.", bookingId));
+        }
+
+        Booking booking = bookingById.get();
+
+        if (!booking.getItem().getOwner().getId().equals(userId)) {
+            return new ObjectNotFoundException(String.format("User with id %s is not owner to item with id %s",
+                    booking.getItem().getOwner().getId(), booking.getItem().getId()));
+        }
+
+        return new BookingValidationException(String.format("Booking with id %s already changed status",
+                booking.getId()));
+    }
 }
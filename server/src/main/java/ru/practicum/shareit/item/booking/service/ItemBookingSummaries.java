@@ -0,0 +1,154 @@
+package ru.practicum.shareit.item.booking.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.booking.dao.BookingRepository;
+import ru.practicum.shareit.item.booking.dao.ItemBookingSummaryRepository;
+import ru.practicum.shareit.item.booking.dto.ItemBookingsView;
+import ru.practicum.shareit.item.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.util.HashedTimingWheel;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.stream.Collectors.toList;
+
+@Slf4j
+@Component
+public class ItemBookingSummaries {
+
+    private final ItemBookingSummaryRepository summaryRepository;
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int sweepBatchSize;
+    private final Duration horizon;
+    private final HashedTimingWheel<Long> expirations;
+
+    public ItemBookingSummaries(ItemBookingSummaryRepository summaryRepository,
+                                BookingRepository bookingRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${shareit.booking-summary.sweep-batch-size:1000}") int sweepBatchSize,
+                                @Value("${shareit.booking-summary.wheel-tick:1000}") long wheelTickMillis,
+                                @Value("${shareit.booking-summary.wheel-size:512}") int wheelSize,
+                                @Value("${shareit.booking-summary.wheel-horizon:600000}") long wheelHorizonMillis) {
+        this.summaryRepository = summaryRepository;
+        this.bookingRepository = bookingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.sweepBatchSize = sweepBatchSize;
+        this.horizon = Duration.ofMillis(wheelHorizonMillis);
+        this.expirations = new HashedTimingWheel<>(Duration.ofMillis(wheelTickMillis), wheelSize);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, ItemBookingsView> get(Collection<Long> itemIds, LocalDateTime now) {
+        Map<Long, ItemBookingsView> bookings = new HashMap<>();
+        for (ItemBookingSummary summary : summaryRepository.findAllById(itemIds)) {
+            if (summary.isValidAt(now)) {
+                bookings.put(summary.getItemId(), summary);
+            }
+        }
+
+        List<Long> expiredItemIds = itemIds.stream()
+                .filter(itemId -> !bookings.containsKey(itemId))
+                .collect(toList());
+        if (!expiredItemIds.isEmpty()) {
+            bookingRepository.findLastAndNextBookings(expiredItemIds, now)
+                    .forEach(view -> bookings.put(view.getItemId(), view));
+        }
+
+        return bookings;
+    }
+
+    @Transactional
+    public void register(Long itemId) {
+        summaryRepository.save(ItemBookingSummary.empty(itemId));
+    }
+
+    @Transactional
+    public void lock(Long itemId) {
+        summaryRepository.findAllByItemIdInOrderByItemIdAsc(List.of(itemId));
+    }
+
+    @Transactional
+    public void refresh(Collection<Long> itemIds) {
+        summaryRepository.findAllByItemIdInOrderByItemIdAsc(itemIds);
+
+        List<ItemBookingSummary> summaries = bookingRepository.findLastAndNextBookings(itemIds, LocalDateTime.now())
+                .stream()
+                .map(ItemBookingSummary::of)
+                .collect(toList());
+        summaryRepository.saveAll(summaries);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    schedule(summaries);
+                }
+            });
+        } else {
+            schedule(summaries);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${shareit.booking-summary.wheel-tick:1000}")
+    public void tick() {
+        List<Long> expiredItemIds = expirations.advance();
+        if (!expiredItemIds.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> refresh(expiredItemIds));
+            log.debug("Rolled booking summaries of items {} forward.", expiredItemIds);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.booking-summary.sweep-delay:30000}")
+    public void sweep() {
+        int refreshed = 0;
+        List<Long> expiredItemIds;
+        do {
+            expiredItemIds = transactionTemplate.execute(status -> {
+                List<Long> itemIds = summaryRepository.findExpiredItemIds(LocalDateTime.now(),
+                        PageRequest.of(0, sweepBatchSize));
+                if (!itemIds.isEmpty()) {
+                    refresh(itemIds);
+                }
+                return itemIds;
+            });
+            refreshed += expiredItemIds.size();
+        } while (expiredItemIds.size() == sweepBatchSize);
+
+        if (refreshed > 0) {
+            log.debug("Refreshed {} expired item booking summaries.", refreshed);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        schedule(summaryRepository.findAllByValidUntilBetween(now, now.plus(horizon)));
+    }
+
+    boolean isScheduled(Long itemId) {
+        return expirations.isScheduled(itemId);
+    }
+
+    private void schedule(Collection<ItemBookingSummary> summaries) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizonEnd = now.plus(horizon);
+        for (ItemBookingSummary summary : summaries) {
+            if (Objects.isNull(summary.getValidUntil()) || summary.getValidUntil().isAfter(horizonEnd)) {
+                expirations.cancel(summary.getItemId());
+            } else {
+                expirations.schedule(summary.getItemId(), Duration.between(now, summary.getValidUntil()));
+            }
+        }
+    }
+}
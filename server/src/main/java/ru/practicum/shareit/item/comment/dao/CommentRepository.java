@@ -1,8 +1,11 @@
 package ru.practicum.shareit.item.comment.dao;
 
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.cache.EntityVersion;
 import ru.practicum.shareit.item.comment.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 
@@ -10,7 +13,15 @@ import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    @EntityGraph("Comment.author")
     List<Comment> findAllByItemId(Long itemId);
 
+    @EntityGraph("Comment.author")
     List<Comment> findByItemIn(List<Item> items, Sort created);
+
+    @Query("SELECT c.id AS id, a.version AS version FROM Comment c " +
+            "JOIN c.author a " +
+            "WHERE c.item.id = :itemId " +
+            "ORDER BY c.id ASC")
+    List<EntityVersion> findAuthorVersionsByItemId(Long itemId);
 }
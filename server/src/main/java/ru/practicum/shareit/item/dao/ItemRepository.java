@@ -3,9 +3,14 @@ package ru.practicum.shareit.item.dao;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.cache.EntityVersion;
+import ru.practicum.shareit.item.booking.model.BookingStatus;
 import ru.practicum.shareit.item.model.Item;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +18,33 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     List<Item> findAllByOwnerIdOrderByIdAsc(Long ownerId, Pageable pageable);
 
     Page<Item> findByOwner_IdOrderByIdAsc(Long userId, Pageable pageable);
+
+    List<Item> findAllByRequestIdIn(Collection<Long> requestIds);
+
+    @Query("SELECT i.id AS id, i.version AS version FROM Item i " +
+            "WHERE i.requestId IN :requestIds " +
+            "ORDER BY i.id ASC")
+    List<EntityVersion> findVersionsByRequestIdIn(Collection<Long> requestIds);
+
+    List<Item> findAllByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT i FROM Item i " +
+            "WHERE i.available = TRUE " +
+            "AND (UPPER(i.name) LIKE UPPER(CONCAT('%', :text, '%')) ESCAPE '\\' " +
+            "OR UPPER(i.description) LIKE UPPER(CONCAT('%', :text, '%')) ESCAPE '\\') " +
+            "ORDER BY i.id ASC")
+    List<Item> searchAvailableItems(String text, Pageable pageable);
+
+    @Query("SELECT i FROM Item i " +
+            "WHERE i.available = TRUE " +
+            "AND (UPPER(i.name) LIKE UPPER(CONCAT('%', :text, '%')) ESCAPE '\\' " +
+            "OR UPPER(i.description) LIKE UPPER(CONCAT('%', :text, '%')) ESCAPE '\\') " +
+            "AND NOT EXISTS (SELECT b.id FROM Booking b " +
+            "WHERE b.item.id = i.id " +
+            "AND b.status IN :statuses " +
+            "AND b.start < :end " +
+            "AND b.end > :start) " +
+            "ORDER BY i.id ASC")
+    List<Item> searchItemsFreeBetween(String text, LocalDateTime start, LocalDateTime end,
+                                      Collection<BookingStatus> statuses, Pageable pageable);
 }
@@ -1,6 +1,9 @@
 package ru.practicum.shareit.item.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ru.practicum.shareit.user.model.User;
 
 import javax.persistence.*;
@@ -10,6 +13,10 @@ import javax.persistence.*;
 @AllArgsConstructor
 @Builder
 @Entity
+@NamedEntityGraph(name = "Item.owner", attributeNodes = @NamedAttributeNode("owner"))
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "items")
 @Table(name = "items")
 public class Item {
     @Id
@@ -25,11 +32,15 @@ public class Item {
     @Column(name = "available")
     private Boolean available;
 
-    @ManyToOne()
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     @ToString.Exclude
     private User owner;
 
     @Column(name = "request_id")
     private Long requestId;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
 }
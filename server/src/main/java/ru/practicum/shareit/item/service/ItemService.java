@@ -3,6 +3,7 @@ package ru.practicum.shareit.item.service;
 import ru.practicum.shareit.item.comment.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
@@ -12,9 +13,14 @@ public interface ItemService {
 
     ItemDto getItemById(Long userId, Long itemId);
 
+    String getItemEtag(Long userId, Long itemId);
+
     List<ItemDto> getAllItems(Long userId, Integer from, Integer size);
 
     List<ItemDto> searchItems(Long userId, String text, Integer from, Integer size);
 
+    List<ItemDto> searchAvailableItems(Long userId, String text, LocalDateTime start, LocalDateTime end,
+                                       Integer from, Integer size);
+
     CommentDto createComment(Long userId, CommentDto commentDto, Long itemId);
 }
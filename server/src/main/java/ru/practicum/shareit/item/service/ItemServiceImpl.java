@@ -1,13 +1,16 @@
 package ru.practicum.shareit.item.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.cache.EntityCacheEvictor;
+import ru.practicum.shareit.cache.EntityVersion;
+import ru.practicum.shareit.cache.VersionEtag;
 import ru.practicum.shareit.exceptions.ForbiddenException;
 import ru.practicum.shareit.exceptions.ObjectNotFoundException;
 import ru.practicum.shareit.exceptions.BookingValidationException;
@@ -15,6 +18,8 @@ import ru.practicum.shareit.item.ItemMapper;
 import ru.practicum.shareit.item.booking.dao.BookingRepository;
 import ru.practicum.shareit.item.booking.model.Booking;
 import ru.practicum.shareit.item.booking.model.BookingStatus;
+import ru.practicum.shareit.item.booking.dto.ItemBookingsView;
+import ru.practicum.shareit.item.booking.service.ItemBookingSummaries;
 import ru.practicum.shareit.item.comment.CommentMapper;
 import ru.practicum.shareit.item.comment.dao.CommentRepository;
 import ru.practicum.shareit.item.comment.dto.CommentDto;
@@ -24,6 +29,7 @@ import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.util.OffsetPageRequest;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -34,13 +40,15 @@ import static java.util.stream.Collectors.toList;
 import static org.springframework.data.domain.Sort.Direction.DESC;
 import static ru.practicum.shareit.item.ItemMapper.toItem;
 import static ru.practicum.shareit.item.ItemMapper.toItemDto;
-import static ru.practicum.shareit.item.booking.BookingMapper.toBookingItemDto;
+import static ru.practicum.shareit.item.booking.BookingMapper.toLastBookingItemDto;
+import static ru.practicum.shareit.item.booking.BookingMapper.toNextBookingItemDto;
 import static ru.practicum.shareit.item.comment.CommentMapper.toComment;
 import static ru.practicum.shareit.item.comment.CommentMapper.toCommentDto;
 import static ru.practicum.shareit.user.UserMapper.toUser;
 
 @Slf4j
 @Service
+@Timed(value = "shareit.service", histogram = true)
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
 
@@ -48,6 +56,9 @@ public class ItemServiceImpl implements ItemService {
     private final UserService userService;
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
+    private final ItemTokenIndex itemTokenIndex;
+    private final ItemBookingSummaries itemBookingSummaries;
+    private final EntityCacheEvictor entityCacheEvictor;
 
     @Override
     @Transactional
@@ -57,7 +68,11 @@ public class ItemServiceImpl implements ItemService {
         User user = toUser(userService.getUserById(userId));
         item.setOwner(user);
 
-        return toItemDto(itemRepository.save(item));
+        Item savedItem = itemRepository.save(item);
+        itemTokenIndex.index(savedItem);
+        itemBookingSummaries.register(savedItem.getId());
+
+        return toItemDto(savedItem);
     }
 
     @Override
@@ -94,14 +109,19 @@ public class ItemServiceImpl implements ItemService {
         item.setOwner(itemFromStorage.getOwner());
         item.setRequestId(itemFromStorage.getRequestId());
         item.setId(itemFromStorage.getId());
+        item.setVersion(itemFromStorage.getVersion());
+
+        Item savedItem = itemRepository.save(item);
+        itemTokenIndex.index(savedItem);
+        entityCacheEvictor.evict(Item.class, itemId);
 
-        return toItemDto(itemRepository.save(item));
+        return toItemDto(savedItem);
     }
 
     @Override
     @Transactional(readOnly = true)
     public ItemDto getItemById(Long userId, Long itemId) {
-        userService.getUserById(userId);
+        userService.checkUserExists(userId);
 
         Optional<Item> itemById = itemRepository.findById(itemId);
 
@@ -118,41 +138,63 @@ public class ItemServiceImpl implements ItemService {
             return itemDto;
         }
 
-        getLastBooking(itemDto);
-        getNextBooking(itemDto);
+        ItemBookingsView itemBookings = itemBookingSummaries.get(List.of(itemId), LocalDateTime.now()).get(itemId);
+        itemDto.setLastBooking(toLastBookingItemDto(itemBookings));
+        itemDto.setNextBooking(toNextBookingItemDto(itemBookings));
 
         return itemDto;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String getItemEtag(Long userId, Long itemId) {
+        userService.checkUserExists(userId);
+
+        Optional<Item> itemById = itemRepository.findById(itemId);
+        if (itemById.isEmpty()) {
+            return null;
+        }
+        Item item = itemById.get();
+
+        List<EntityVersion> comments = commentRepository.findAuthorVersionsByItemId(itemId);
+        if (!item.getOwner().getId().equals(userId)) {
+            return VersionEtag.of("item", item.getId(), item.getVersion(), comments);
+        }
+
+        ItemBookingsView itemBookings = itemBookingSummaries.get(List.of(itemId), LocalDateTime.now()).get(itemId);
+        return VersionEtag.of("owned-item", item.getId(), item.getVersion(), comments,
+                toLastBookingItemDto(itemBookings), toNextBookingItemDto(itemBookings));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ItemDto> getAllItems(Long userId, Integer from, Integer size) {
-        userService.getUserById(userId);
+        userService.checkUserExists(userId);
 
-        Pageable pageable = PageRequest.of(from / size, size);
+        Pageable pageable = OffsetPageRequest.of(from, size);
 
         Page<Item> items = itemRepository.findByOwner_IdOrderByIdAsc(userId, pageable);
 
-        Map<Item, List<Comment>> comments =
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> itemIds = items.map(Item::getId).getContent();
+
+        Map<Long, List<Comment>> comments =
                 commentRepository.findByItemIn(items.getContent(), Sort.by(DESC, "created")).stream()
-                        .collect(groupingBy(Comment::getItem, toList()));
+                        .collect(groupingBy(comment -> comment.getItem().getId(), toList()));
 
-        Map<Item, List<Booking>> approvedBookings =
-                bookingRepository.findAllByItemInAndStatus(items.getContent(), BookingStatus.APPROVED,
-                                Sort.by(DESC, "start")).stream()
-                        .collect(groupingBy(Booking::getItem, toList()));
+        Map<Long, ItemBookingsView> bookings = itemBookingSummaries.get(itemIds, LocalDateTime.now());
 
         List<ItemDto> results = new ArrayList<>();
         for (Item item : items) {
+            ItemBookingsView itemBookings = bookings.get(item.getId());
             ItemDto itemDto = toItemDto(
                     item,
-                    approvedBookings.containsKey(item) ? approvedBookings.get(item)
-                            .stream().filter(booking -> (booking.getStart().isBefore(LocalDateTime.now())))
-                            .max(comparing(Booking::getStart)).orElse(null) : null,
-                    approvedBookings.containsKey(item) ? approvedBookings.get(item)
-                            .stream().filter(booking -> (booking.getStart().isAfter(LocalDateTime.now())))
-                            .min(comparing(Booking::getStart)).orElse(null) : null,
-                    comments.getOrDefault(item, Collections.emptyList())
+                    toLastBookingItemDto(itemBookings),
+                    toNextBookingItemDto(itemBookings),
+                    comments.getOrDefault(item.getId(), Collections.emptyList())
             );
             results.add(itemDto);
         }
@@ -172,18 +214,42 @@ public class ItemServiceImpl implements ItemService {
     @Override
     @Transactional(readOnly = true)
     public List<ItemDto> searchItems(Long userId, String text, Integer from, Integer size) {
-        userService.getUserById(userId);
+        userService.checkUserExists(userId);
+
+        Pageable pageable = OffsetPageRequest.of(from, size);
+
+        if (text.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        if (itemTokenIndex.canSearch(text)) {
+            return findIndexedItems(text, pageable);
+        }
+
+        return itemRepository.searchAvailableItems(escapeLikePattern(text), pageable).stream()
+                .map(ItemMapper::toItemDto)
+                .collect(toList());
+    }
 
-        Pageable pageable = PageRequest.of(from / size, size);
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemDto> searchAvailableItems(Long userId, String text, LocalDateTime start, LocalDateTime end,
+                                              Integer from, Integer size) {
+        userService.checkUserExists(userId);
+
+        if (!start.isBefore(end)) {
+            throw new BookingValidationException(String.format("End date: %s should be after start date: %s.",
+                    end, start));
+        }
 
         if (text.isBlank()) {
             return Collections.emptyList();
         }
 
-        return itemRepository.findAll(pageable).stream()
-                .filter(Item::getAvailable)
-                .filter(item -> item.getName().toLowerCase().contains(text.toLowerCase())
-                        || item.getDescription().toLowerCase().contains(text.toLowerCase()))
+        Pageable pageable = OffsetPageRequest.of(from, size);
+
+        return itemRepository.searchItemsFreeBetween(escapeLikePattern(text), start, end, BookingStatus.ACTIVE,
+                        pageable).stream()
                 .map(ItemMapper::toItemDto)
                 .collect(toList());
     }
@@ -213,21 +279,37 @@ public class ItemServiceImpl implements ItemService {
         return toCommentDto(commentRepository.save(toComment(commentDto, item, user)));
     }
 
-    private void getLastBooking(ItemDto itemDto) {
-        Optional<Booking> lastBooking = bookingRepository.getLastBooking(itemDto.getId(), LocalDateTime.now());
-        if (lastBooking.isPresent()) {
-            itemDto.setLastBooking(toBookingItemDto(lastBooking.get()));
-        } else {
-            itemDto.setLastBooking(null);
+    private List<ItemDto> findIndexedItems(String text, Pageable pageable) {
+        while (true) {
+            List<Long> itemIds = itemTokenIndex.search(text, pageable.getOffset(), pageable.getPageSize());
+            if (itemIds.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            List<Item> items = itemRepository.findAllById(itemIds);
+            Set<Long> missingIds = new HashSet<>(itemIds);
+            items.forEach(item -> missingIds.remove(item.getId()));
+            List<Item> changedItems = items.stream()
+                    .filter(item -> !ItemTokenIndex.matches(item, text))
+                    .collect(toList());
+
+            if (missingIds.isEmpty() && changedItems.isEmpty()) {
+                return items.stream()
+                        .sorted(comparing(Item::getId))
+                        .map(ItemMapper::toItemDto)
+                        .collect(toList());
+            }
+
+            log.debug("Items with ids {} are gone and {} no longer match, refreshing token index.", missingIds,
+                    changedItems.stream().map(Item::getId).collect(toList()));
+            itemTokenIndex.remove(missingIds);
+            itemTokenIndex.reindex(changedItems);
         }
     }
 
-    private void getNextBooking(ItemDto itemDto) {
-        Optional<Booking> nextBooking = bookingRepository.getNextBooking(itemDto.getId(), LocalDateTime.now());
-        if (nextBooking.isPresent()) {
-            itemDto.setNextBooking(toBookingItemDto(nextBooking.get()));
-        } else {
-            itemDto.setNextBooking(null);
-        }
+    private static String escapeLikePattern(String text) {
+        return text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
     }
 }
@@ -0,0 +1,256 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+public class ItemTokenIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final ItemRepository itemRepository;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    public ItemTokenIndex(ItemRepository itemRepository,
+                          @Value("${shareit.search.token-index.enabled:false}") boolean enabled,
+                          @Value("${shareit.search.token-index.batch-size:1000}") int batchSize) {
+        this.itemRepository = itemRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    public boolean canSearch(String text) {
+        return ready && text.length() >= GRAM_LENGTH;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long lastId = 0L;
+        int indexed = 0;
+        List<Item> batch;
+        do {
+            batch = itemRepository.findAllByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, batchSize));
+            lock.writeLock().lock();
+            try {
+                for (Item item : batch) {
+                    if (!documents.containsKey(item.getId())) {
+                        put(item);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+                indexed += batch.size();
+            }
+        } while (batch.size() == batchSize);
+
+        ready = true;
+        log.info("Item token index is built, {} items indexed.", indexed);
+    }
+
+    public void index(Item item) {
+        if (!enabled) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write(item);
+                }
+            });
+        } else {
+            write(item);
+        }
+    }
+
+    public void remove(Collection<Long> itemIds) {
+        lock.writeLock().lock();
+        try {
+            itemIds.forEach(this::delete);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void reindex(Collection<Item> items) {
+        lock.writeLock().lock();
+        try {
+            for (Item item : items) {
+                delete(item.getId());
+                put(item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public static boolean matches(Item item, String text) {
+        return Boolean.TRUE.equals(item.getAvailable()) && documentText(item).contains(fold(text));
+    }
+
+    public List<Long> search(String text, long offset, int size) {
+        String query = fold(text);
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>();
+            for (String gram : grams(query)) {
+                Postings list = postings.get(gram);
+                if (list == null) {
+                    return Collections.emptyList();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            Postings shortest = lists.get(0);
+            List<Long> result = new ArrayList<>(size);
+            long skipped = 0;
+            for (int i = 0; i < shortest.size && result.size() < size; i++) {
+                long id = shortest.ids[i];
+                if (!containsInAll(lists, id)) {
+                    continue;
+                }
+                Document document = documents.get(id);
+                if (!document.available || !document.text.contains(query)) {
+                    continue;
+                }
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    result.add(id);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Item item) {
+        reindex(List.of(item));
+    }
+
+    private void put(Item item) {
+        String text = documentText(item);
+        documents.put(item.getId(), new Document(text, Boolean.TRUE.equals(item.getAvailable())));
+        for (String gram : grams(text)) {
+            postings.computeIfAbsent(gram, key -> new Postings()).add(item.getId());
+        }
+    }
+
+    private void delete(Long itemId) {
+        Document document = documents.remove(itemId);
+        if (document == null) {
+            return;
+        }
+        for (String gram : grams(document.text)) {
+            Postings list = postings.get(gram);
+            list.remove(itemId);
+            if (list.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static String documentText(Item item) {
+        return fold(item.getName()) + '\n' + fold(item.getDescription());
+    }
+
+    private static String fold(String text) {
+        return text.toUpperCase(Locale.ROOT);
+    }
+
+    private static boolean containsInAll(List<Postings> lists, long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static final class Document {
+        private final String text;
+        private final boolean available;
+
+        private Document(String text, boolean available) {
+            this.text = text;
+            this.available = available;
+        }
+    }
+
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int size;
+
+        private boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        private void add(long id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int position = Arrays.binarySearch(ids, 0, size, id);
+                if (position >= 0) {
+                    return;
+                }
+                insertAt(-position - 1, id);
+                return;
+            }
+            insertAt(size, id);
+        }
+
+        private void remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        }
+
+        private void insertAt(int position, long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry, MetricsConfig::serviceTags);
+    }
+
+    @Bean
+    public RepositoryTagsProvider repositoryTagsProvider() {
+        DefaultRepositoryTagsProvider defaultTags = new DefaultRepositoryTagsProvider();
+        return invocation -> Tags.of(defaultTags.repositoryTags(invocation)).and(RequestTags.current());
+    }
+
+    private static Iterable<Tag> serviceTags(ProceedingJoinPoint joinPoint) {
+        return Tags.of("class", joinPoint.getStaticPart().getSignature().getDeclaringType().getSimpleName(),
+                        "method", joinPoint.getStaticPart().getSignature().getName())
+                .and(RequestTags.current());
+    }
+}
@@ -0,0 +1,50 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import lombok.experimental.UtilityClass;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.practicum.shareit.item.booking.model.BookingState;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Objects;
+
+@UtilityClass
+public class RequestTags {
+
+    public static final String ENDPOINT = "endpoint";
+    public static final String BOOKING_STATE = "booking.state";
+
+    private static final String NONE = "none";
+    private static final String UNKNOWN = "UNKNOWN";
+
+    public static Tags current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return Tags.of(ENDPOINT, NONE, BOOKING_STATE, NONE);
+        }
+
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        return Tags.of(ENDPOINT, endpoint(request), BOOKING_STATE, bookingState(request));
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (Objects.isNull(pattern)) {
+            return NONE;
+        }
+        return request.getMethod() + " " + pattern;
+    }
+
+    private static String bookingState(HttpServletRequest request) {
+        String state = request.getParameter("state");
+        if (Objects.isNull(state) || !request.getRequestURI().startsWith("/bookings")) {
+            return NONE;
+        }
+
+        BookingState bookingState = BookingState.from(state);
+        return Objects.isNull(bookingState) ? UNKNOWN : bookingState.name();
+    }
+}
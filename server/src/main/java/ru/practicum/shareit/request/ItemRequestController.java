@@ -3,6 +3,7 @@ package ru.practicum.shareit.request;
 import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.request.dto.RequestDto;
 import ru.practicum.shareit.request.service.RequestService;
 
@@ -30,7 +31,11 @@ public class ItemRequestController {
     @GetMapping("/all")
     public List<RequestDto> getAllRequests(@RequestHeader("X-Sharer-User-Id") Long userId,
                                            @RequestParam(value = "from", defaultValue = "0") Integer from,
-                                           @RequestParam(value = "size", defaultValue = "10") Integer size) {
+                                           @RequestParam(value = "size", defaultValue = "10") Integer size,
+                                           WebRequest webRequest) {
+        if (webRequest.checkNotModified(requestService.getAllRequestsEtag(userId, from, size))) {
+            return null;
+        }
         return requestService.getAllRequests(userId, from, size);
     }
 
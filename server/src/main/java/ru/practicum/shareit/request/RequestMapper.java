@@ -21,6 +21,15 @@ public class RequestMapper {
                 .build();
     }
 
+    public static RequestDto toRequestDto(Request request, List<ItemDto> items) {
+        return RequestDto.builder()
+                .id(request.getId())
+                .description(request.getDescription())
+                .created(request.getCreated())
+                .items(items)
+                .build();
+    }
+
     public static RequestDto toRequestDto(Request request) {
 
         List<ItemDto> itemsDto = new ArrayList<>();
@@ -1,15 +1,27 @@
 package ru.practicum.shareit.request.dao;
 
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.cache.EntityVersion;
 import ru.practicum.shareit.request.model.Request;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RequestRepository extends JpaRepository<Request, Long> {
+    @Override
+    @EntityGraph("Request.items")
+    Optional<Request> findById(Long requestId);
+
     List<Request> findAllByRequestorIdOrderByCreated(Long requestorId);
 
     List<Request> findAllByRequestorIdNot(Long userId, PageRequest pageable);
+
+    @Query("SELECT r.id AS id, r.version AS version FROM Request r " +
+            "WHERE r.requestor.id <> :userId")
+    List<EntityVersion> findVersionsByRequestorIdNot(Long userId, PageRequest pageable);
 }
@@ -15,6 +15,7 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
+@NamedEntityGraph(name = "Request.items", attributeNodes = @NamedAttributeNode("items"))
 @Table(name = "requests")
 public class Request {
     @Id
@@ -28,7 +29,7 @@ public class Request {
     @Column(name = "created")
     private LocalDateTime created;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "requestor_id", nullable = false)
     @ToString.Exclude
     private User requestor;
@@ -37,4 +38,8 @@ public class Request {
     @JoinColumn(name = "request_id")
     @ToString.Exclude
     private List<Item> items = new ArrayList<>();
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
 }
@@ -11,5 +11,7 @@ public interface RequestService {
 
     List<RequestDto> getAllRequests(Long userId, Integer from, Integer size);
 
+    String getAllRequestsEtag(Long userId, Integer from, Integer size);
+
     RequestDto getRequestById(Long userId, Long requestId);
 }
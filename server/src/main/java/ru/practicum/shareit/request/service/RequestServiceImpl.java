@@ -1,33 +1,47 @@
 package ru.practicum.shareit.request.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.cache.EntityVersion;
+import ru.practicum.shareit.cache.VersionEtag;
 import ru.practicum.shareit.exceptions.ObjectNotFoundException;
-import ru.practicum.shareit.request.RequestMapper;
+import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.dao.RequestRepository;
 import ru.practicum.shareit.request.dto.RequestDto;
 import ru.practicum.shareit.request.model.Request;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static org.springframework.data.domain.Sort.Direction.ASC;
 import static ru.practicum.shareit.request.RequestMapper.toRequest;
 import static ru.practicum.shareit.request.RequestMapper.toRequestDto;
 import static ru.practicum.shareit.user.UserMapper.toUser;
 
 @Slf4j
 @Service
+@Timed(value = "shareit.service", histogram = true)
 @RequiredArgsConstructor
 public class RequestServiceImpl implements RequestService {
 
     private final RequestRepository requestRepository;
     private final UserService userService;
+    private final ItemRepository itemRepository;
 
     @Override
     @Transactional
@@ -43,29 +57,41 @@ public class RequestServiceImpl implements RequestService {
     @Override
     @Transactional(readOnly = true)
     public List<RequestDto> getUserRequests(Long userId) {
-        userService.getUserById(userId);
+        userService.checkUserExists(userId);
 
-        List<Request> requests = requestRepository.findAllByRequestorIdOrderByCreated(userId);
-
-        return requests.stream()
-                .map(RequestMapper::toRequestDto)
-                .collect(Collectors.toList());
+        return toRequestsDto(requestRepository.findAllByRequestorIdOrderByCreated(userId));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<RequestDto> getAllRequests(Long userId, Integer from, Integer size) {
-        userService.getUserById(userId);
+        userService.checkUserExists(userId);
 
-        List<Request> requests = requestRepository.findAllByRequestorIdNot(userId, PageRequest.of(from, size));
+        return toRequestsDto(requestRepository.findAllByRequestorIdNot(userId, toPageRequest(from, size)));
+    }
 
-        return requests.stream()
-                .map(RequestMapper::toRequestDto)
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public String getAllRequestsEtag(Long userId, Integer from, Integer size) {
+        userService.checkUserExists(userId);
+
+        List<EntityVersion> requests = requestRepository.findVersionsByRequestorIdNot(userId,
+                toPageRequest(from, size));
+        if (requests.isEmpty()) {
+            return VersionEtag.of("requests", requests);
+        }
+
+        List<Long> requestIds = requests.stream()
+                .map(EntityVersion::getId)
+                .collect(toList());
+
+        return VersionEtag.of("requests", requests, itemRepository.findVersionsByRequestIdIn(requestIds));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public RequestDto getRequestById(Long userId, Long requestId) {
-        userService.getUserById(userId);
+        userService.checkUserExists(userId);
 
         Optional<Request> requestById = requestRepository.findById(requestId);
 
@@ -77,4 +103,25 @@ public class RequestServiceImpl implements RequestService {
 
         return toRequestDto(requestById.get());
     }
+
+    private static PageRequest toPageRequest(Integer from, Integer size) {
+        return PageRequest.of(from, size, Sort.by(ASC, "id"));
+    }
+
+    private List<RequestDto> toRequestsDto(List<Request> requests) {
+        if (requests.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> requestIds = requests.stream()
+                .map(Request::getId)
+                .collect(toList());
+
+        Map<Long, List<ItemDto>> items = itemRepository.findAllByRequestIdIn(requestIds).stream()
+                .collect(groupingBy(Item::getRequestId, mapping(ItemMapper::toItemDto, toList())));
+
+        return requests.stream()
+                .map(request -> toRequestDto(request, items.getOrDefault(request.getId(), Collections.emptyList())))
+                .collect(toList());
+    }
 }
@@ -0,0 +1,69 @@
+package ru.practicum.shareit.tracing;
+
+import io.micrometer.core.instrument.Tag;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.Tracer;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.metrics.RequestTags;
+
+import java.util.Objects;
+
+@Aspect
+@Component
+@ConditionalOnProperty(name = "spring.sleuth.enabled", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    private final Tracer tracer;
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, joinPoint.getTarget().getClass().getSimpleName());
+    }
+
+    @Around("target(org.springframework.data.repository.Repository)")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, repositoryName(joinPoint.getThis()));
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String className) throws Throwable {
+        Span parent = tracer.currentSpan();
+        if (Objects.isNull(parent) || !Boolean.TRUE.equals(parent.context().sampled())) {
+            return joinPoint.proceed();
+        }
+
+        Span span = tracer.nextSpan(parent)
+                .name(className + "." + joinPoint.getSignature().getName())
+                .start();
+        for (Tag tag : RequestTags.current()) {
+            span.tag(tag.getKey(), tag.getValue());
+        }
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private static String repositoryName(Object repository) {
+        for (Class<?> type : AopProxyUtils.proxiedUserInterfaces(repository)) {
+            if (Repository.class.isAssignableFrom(type)) {
+                return type.getSimpleName();
+            }
+        }
+        return repository.getClass().getSimpleName();
+    }
+}
@@ -2,6 +2,7 @@ package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
@@ -26,7 +27,11 @@ public class UserController {
     }
 
     @GetMapping("/{userId}")
-    public UserDto get(@PathVariable Long userId) {
+    public UserDto get(@PathVariable Long userId,
+                       WebRequest webRequest) {
+        if (webRequest.checkNotModified(userService.getUserEtag(userId))) {
+            return null;
+        }
         return userService.getUserById(userId);
     }
 
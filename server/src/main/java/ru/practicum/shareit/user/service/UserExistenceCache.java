@@ -0,0 +1,63 @@
+package ru.practicum.shareit.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class UserExistenceCache {
+
+    private final Cache<Long, Boolean> existingUsers;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserExistenceCache(@Value("${shareit.cache.user-existence.maximum-size:100000}") long maximumSize,
+                              @Value("${shareit.cache.user-existence.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.existingUsers = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public boolean contains(Long userId) {
+        return existingUsers.getIfPresent(userId) != null;
+    }
+
+    public long version() {
+        return invalidations.get();
+    }
+
+    public void add(Long userId, long version) {
+        afterCommit(() -> {
+            existingUsers.put(userId, Boolean.TRUE);
+            if (invalidations.get() != version) {
+                existingUsers.invalidate(userId);
+            }
+        });
+    }
+
+    public void invalidate(Long userId) {
+        afterCommit(() -> {
+            invalidations.incrementAndGet();
+            existingUsers.invalidate(userId);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
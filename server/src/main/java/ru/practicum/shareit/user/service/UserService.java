@@ -13,6 +13,10 @@ public interface UserService {
 
     UserDto getUserById(Long userId);
 
+    String getUserEtag(Long userId);
+
+    void checkUserExists(Long userId);
+
     List<UserDto> getAllUsers();
 
     void deleteUser(Long userId);
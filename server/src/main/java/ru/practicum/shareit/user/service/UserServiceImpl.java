@@ -1,10 +1,16 @@
 package ru.practicum.shareit.user.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.cache.EntityCacheEvictor;
+import ru.practicum.shareit.cache.VersionEtag;
 import ru.practicum.shareit.exceptions.ObjectNotFoundException;
+import ru.practicum.shareit.item.booking.dao.BookingRepository;
+import ru.practicum.shareit.item.booking.service.ItemBookingSummaries;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.UserMapper;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.dto.UserDto;
@@ -19,16 +25,23 @@ import static ru.practicum.shareit.user.UserMapper.toUserDto;
 
 @Slf4j
 @Service
+@Timed(value = "shareit.service", histogram = true)
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UserExistenceCache userExistenceCache;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final BookingRepository bookingRepository;
+    private final ItemBookingSummaries itemBookingSummaries;
 
     @Override
     @Transactional
     public UserDto addNewUser(UserDto userDto) {
-        User user = toUser(userDto);
-        return toUserDto(userRepository.save(user));
+        long version = userExistenceCache.version();
+        User user = userRepository.save(toUser(userDto));
+        userExistenceCache.add(user.getId(), version);
+        return toUserDto(user);
     }
 
     @Override
@@ -47,21 +60,47 @@ public class UserServiceImpl implements UserService {
         if (!Objects.isNull(userDto.getName())) {
             userFromStorage.setName(userDto.getName());
         }
-        return toUserDto(userRepository.save(userFromStorage));
+        User savedUser = userRepository.save(userFromStorage);
+        entityCacheEvictor.evict(User.class, userId);
+        return toUserDto(savedUser);
     }
 
     @Override
     @Transactional(readOnly = true)
     public UserDto getUserById(Long userId) {
+        long version = userExistenceCache.version();
         User user = userRepository.findById(userId).orElseThrow(
                 () -> {
                     log.debug("User with id {} was not found.", userId);
                     throw new ObjectNotFoundException(String.format("User with id: %s was not found!", userId));
                 }
         );
+        userExistenceCache.add(userId, version);
         return toUserDto(user);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String getUserEtag(Long userId) {
+        return userRepository.findById(userId)
+                .map(user -> VersionEtag.of("user", user.getId(), user.getVersion()))
+                .orElse(null);
+    }
+
+    @Override
+    public void checkUserExists(Long userId) {
+        if (userExistenceCache.contains(userId)) {
+            return;
+        }
+
+        long version = userExistenceCache.version();
+        if (!userRepository.existsById(userId)) {
+            log.debug("User with id {} was not found.", userId);
+            throw new ObjectNotFoundException(String.format("User with id: %s was not found!", userId));
+        }
+        userExistenceCache.add(userId, version);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<UserDto> getAllUsers() {
@@ -74,7 +113,15 @@ public class UserServiceImpl implements UserService {
     @Transactional
     public void deleteUser(Long userId) {
         if (userRepository.findById(userId).isPresent()) {
+            List<Long> bookedItemIds = bookingRepository.findApprovedItemIdsByBookerId(userId);
             userRepository.deleteById(userId);
+            userRepository.flush();
+            if (!bookedItemIds.isEmpty()) {
+                itemBookingSummaries.refresh(bookedItemIds);
+            }
+            userExistenceCache.invalidate(userId);
+            entityCacheEvictor.evict(User.class, userId);
+            entityCacheEvictor.evictAll(Item.class);
         } else {
             log.debug("User with id {} was not found.", userId);
             throw new ObjectNotFoundException(String.format("User with id: %s was not found!", userId));
@@ -0,0 +1,90 @@
+package ru.practicum.shareit.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class HashedTimingWheel<K> {
+
+    private final long tickNanos;
+    private final List<Set<Timeout<K>>> buckets;
+    private final Map<K, Timeout<K>> timeouts = new HashMap<>();
+    private long currentTick;
+
+    public HashedTimingWheel(Duration tick, int wheelSize) {
+        if (tick.isNegative() || tick.isZero() || wheelSize <= 0) {
+            throw new IllegalArgumentException(String.format("Timing wheel tick %s and size %s should be positive.",
+                    tick, wheelSize));
+        }
+
+        this.tickNanos = tick.toNanos();
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new HashSet<>());
+        }
+    }
+
+    public synchronized void schedule(K key, Duration delay) {
+        cancel(key);
+
+        long ticks = Math.max(1L, (Math.max(0L, delay.toNanos()) + tickNanos - 1) / tickNanos);
+        Timeout<K> timeout = new Timeout<>(key, bucketOf(currentTick + ticks), (ticks - 1) / buckets.size());
+        buckets.get(timeout.bucket).add(timeout);
+        timeouts.put(key, timeout);
+    }
+
+    public synchronized void cancel(K key) {
+        Timeout<K> timeout = timeouts.remove(key);
+        if (timeout != null) {
+            buckets.get(timeout.bucket).remove(timeout);
+        }
+    }
+
+    public synchronized boolean isScheduled(K key) {
+        return timeouts.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return timeouts.size();
+    }
+
+    public synchronized List<K> advance() {
+        currentTick++;
+
+        List<K> expired = new ArrayList<>();
+        Iterator<Timeout<K>> iterator = buckets.get(bucketOf(currentTick)).iterator();
+        while (iterator.hasNext()) {
+            Timeout<K> timeout = iterator.next();
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                continue;
+            }
+            iterator.remove();
+            timeouts.remove(timeout.key);
+            expired.add(timeout.key);
+        }
+
+        return expired;
+    }
+
+    private int bucketOf(long tick) {
+        return (int) (tick % buckets.size());
+    }
+
+    private static final class Timeout<K> {
+        private final K key;
+        private final int bucket;
+        private long remainingRounds;
+
+        private Timeout(K key, int bucket, long remainingRounds) {
+            this.key = key;
+            this.bucket = bucket;
+            this.remainingRounds = remainingRounds;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+CREATE INDEX IF NOT EXISTS IX_BOOKINGS_BOOKER_START ON bookings (booker_id, start_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS IX_BOOKINGS_ITEM_STATUS_START ON bookings (item_id, status, start_date);
+CREATE INDEX IF NOT EXISTS IX_ITEMS_OWNER ON items (owner_id, id);
+CREATE INDEX IF NOT EXISTS IX_ITEMS_REQUEST ON items (request_id);
+CREATE INDEX IF NOT EXISTS IX_COMMENTS_ITEM_CREATED ON comments (item_id, created);
+CREATE INDEX IF NOT EXISTS IX_REQUESTS_REQUESTOR_CREATED ON requests (requestor_id, created);
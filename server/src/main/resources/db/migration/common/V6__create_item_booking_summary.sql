@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS item_booking_summary
+(
+    item_id BIGINT PRIMARY KEY,
+    last_booking_id BIGINT,
+    last_booker_id BIGINT,
+    next_booking_id BIGINT,
+    next_booker_id BIGINT,
+    valid_until TIMESTAMP WITHOUT TIME ZONE,
+    FOREIGN KEY (item_id) REFERENCES items (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS IX_ITEM_BOOKING_SUMMARY_VALID_UNTIL ON item_booking_summary (valid_until);
+
+INSERT INTO item_booking_summary (item_id, valid_until)
+SELECT id, TIMESTAMP '1970-01-01 00:00:00' FROM items;
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS IX_BOOKINGS_ITEM_START ON bookings (item_id, start_date DESC, id DESC);
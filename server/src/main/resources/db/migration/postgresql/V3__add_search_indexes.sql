@@ -0,0 +1,4 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS IX_ITEMS_NAME_TRGM ON items USING gin (UPPER(name) gin_trgm_ops) WHERE available;
+CREATE INDEX IF NOT EXISTS IX_ITEMS_DESCRIPTION_TRGM ON items USING gin (UPPER(description) gin_trgm_ops) WHERE available;
@@ -0,0 +1,24 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO $$
+DECLARE
+    overlapping BIGINT;
+BEGIN
+    SELECT COUNT(*) INTO overlapping
+    FROM bookings a
+    JOIN bookings b ON b.item_id = a.item_id AND b.id > a.id
+    WHERE a.status IN ('WAITING', 'APPROVED')
+      AND b.status IN ('WAITING', 'APPROVED')
+      AND tsrange(a.start_date, a.end_date, '[)') && tsrange(b.start_date, b.end_date, '[)');
+
+    IF overlapping > 0 THEN
+        RAISE EXCEPTION 'Cannot add EX_BOOKINGS_ITEM_PERIOD: % pairs of WAITING or APPROVED bookings overlap. '
+            'Cancel or reject one booking of each pair and run the migration again.', overlapping;
+    END IF;
+END $$;
+
+ALTER TABLE bookings
+    ADD CONSTRAINT EX_BOOKINGS_ITEM_PERIOD EXCLUDE USING gist (
+        item_id WITH =,
+        tsrange(start_date, end_date, '[)') WITH &&
+    ) WHERE (status IN ('WAITING', 'APPROVED'));
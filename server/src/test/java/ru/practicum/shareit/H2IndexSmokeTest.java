@@ -0,0 +1,60 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DataJpaTest
+class H2IndexSmokeTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @DisplayName("Тестирование использования индексов в H2")
+    @ValueSource(strings = {
+            "SELECT b.* FROM bookings b WHERE b.booker_id = 1 AND b.start_date <= CURRENT_TIMESTAMP " +
+                    "AND (b.start_date < CURRENT_TIMESTAMP OR (b.start_date = CURRENT_TIMESTAMP AND b.id < 10)) " +
+                    "ORDER BY b.start_date DESC, b.id DESC LIMIT 10",
+            "SELECT b.* FROM bookings b WHERE b.booker_id = 1 AND b.status = 'WAITING' " +
+                    "AND b.start_date > CURRENT_TIMESTAMP ORDER BY b.start_date DESC LIMIT 10",
+            "SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id WHERE i.owner_id = 1 " +
+                    "AND b.end_date < CURRENT_TIMESTAMP ORDER BY b.start_date DESC LIMIT 10",
+            "SELECT b.* FROM bookings b WHERE b.booker_id = 1 AND b.item_id = 1 " +
+                    "AND b.status = 'APPROVED' AND b.end_date < CURRENT_TIMESTAMP",
+            "SELECT b.id FROM bookings b WHERE b.item_id IN (1, 2) AND b.status = 'APPROVED' " +
+                    "AND b.start_date < CURRENT_TIMESTAMP",
+            "SELECT i.* FROM items i WHERE i.owner_id = 1 ORDER BY i.id LIMIT 10",
+            "SELECT i.* FROM items i WHERE i.request_id IN (1, 2)",
+            "SELECT c.* FROM comments c WHERE c.item_id IN (1, 2) ORDER BY c.created DESC",
+            "SELECT r.* FROM requests r WHERE r.requestor_id = 1 ORDER BY r.created",
+            "SELECT s.item_id FROM item_booking_summary s WHERE s.valid_until <= CURRENT_TIMESTAMP " +
+                    "ORDER BY s.valid_until LIMIT 1000"
+    })
+    void explain_whenIndexedQueryOnH2_thenDoNotScanTable(String query) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + query, String.class);
+
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    @DisplayName("Тестирование создания индексов миграциями")
+    void migrate_whenApplied_thenCreateQueryIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList("SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES " +
+                "WHERE INDEX_NAME LIKE 'IX\\_%'", String.class);
+
+        assertEquals(Set.of("IX_BOOKINGS_BOOKER_START", "IX_BOOKINGS_ITEM_STATUS_START", "IX_ITEMS_OWNER",
+                "IX_ITEMS_REQUEST", "IX_COMMENTS_ITEM_CREATED", "IX_REQUESTS_REQUESTOR_CREATED",
+                "IX_ITEM_BOOKING_SUMMARY_VALID_UNTIL", "IX_BOOKINGS_ITEM_START"), Set.copyOf(indexes));
+    }
+}
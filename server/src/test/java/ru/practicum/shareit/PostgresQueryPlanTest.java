@@ -0,0 +1,229 @@
+package ru.practicum.shareit;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareit.item.booking.dao.BookingRepository;
+import ru.practicum.shareit.item.booking.model.BookingParty;
+import ru.practicum.shareit.item.booking.model.BookingState;
+import ru.practicum.shareit.item.comment.dao.CommentRepository;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dao.RequestRepository;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.driverClassName=org.postgresql.Driver",
+        "shareit.booking.range-overlap-query=true",
+        "spring.jpa.show_sql=false",
+        "shareit.booking-summary.sweep-delay=3600000"
+})
+@EnabledIf("isPostgresAvailable")
+@Import(QueryPlanRecorder.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class PostgresQueryPlanTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    private static final long BUSY_BOOKER_ID = 1L;
+
+    private static final long OWNER_ID = 5L;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2020, 1, 10, 12, 0);
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, PAGE_SIZE);
+
+    private static final String POSTGRES_URL = "shareit.test.postgres.url";
+
+    private static final String EMBEDDED_POSTGRES = "shareit.test.postgres.embedded";
+
+    private static EmbeddedPostgres embeddedPostgres;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QueryPlanRecorder queryPlans;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    static boolean isPostgresAvailable() {
+        return System.getProperty(POSTGRES_URL) != null || Boolean.getBoolean(EMBEDDED_POSTGRES);
+    }
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) throws IOException {
+        if (System.getProperty(POSTGRES_URL) != null) {
+            registry.add("spring.datasource.url", () -> System.getProperty(POSTGRES_URL));
+            registry.add("spring.datasource.username",
+                    () -> System.getProperty("shareit.test.postgres.username", "shareit"));
+            registry.add("spring.datasource.password",
+                    () -> System.getProperty("shareit.test.postgres.password", "shareit"));
+            return;
+        }
+
+        embeddedPostgres = EmbeddedPostgres.start();
+        registry.add("spring.datasource.url", () -> embeddedPostgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopEmbeddedPostgres() throws IOException {
+        if (embeddedPostgres != null) {
+            embeddedPostgres.close();
+            embeddedPostgres = null;
+        }
+    }
+
+    @BeforeAll
+    void setUpData() {
+        jdbcTemplate.execute("TRUNCATE users, requests, items, bookings, comments, item_booking_summary " +
+                "RESTART IDENTITY CASCADE");
+        jdbcTemplate.execute("INSERT INTO users (name, email) " +
+                "SELECT 'user ' || g, 'user' || g || '@email.com' FROM generate_series(1, 1000) g");
+        jdbcTemplate.execute("INSERT INTO requests (description, requestor_id, created) " +
+                "SELECT 'request ' || g, 2 + g % 999, TIMESTAMP '2019-01-01' + g * INTERVAL '1 hour' " +
+                "FROM generate_series(1, 5000) g");
+        jdbcTemplate.execute("INSERT INTO items (name, description, available, owner_id, request_id) " +
+                "SELECT 'item ' || g, 'description ' || g, g % 10 <> 0, 2 + g % 999, " +
+                "CASE WHEN g % 4 = 0 THEN 1 + g / 4 % 5000 END FROM generate_series(1, 20000) g");
+        jdbcTemplate.execute("INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) " +
+                "SELECT TIMESTAMP '2020-01-01' + k * 2 * INTERVAL '1 day' + i % 24 * INTERVAL '1 hour', " +
+                "TIMESTAMP '2020-01-01' + (k * 2 + 1) * INTERVAL '1 day', i, " +
+                "CASE WHEN (i * 31 + k) % 10 = 0 THEN 1 ELSE 2 + (i * 7 + k) % 998 END, " +
+                "CASE WHEN k % 7 = 0 THEN 'REJECTED' WHEN k % 5 = 0 THEN 'WAITING' ELSE 'APPROVED' END " +
+                "FROM generate_series(1, 20000) i, generate_series(1, 10) k");
+        jdbcTemplate.execute("INSERT INTO comments (text, item_id, author_id, created) " +
+                "SELECT 'comment ' || g, 1 + g % 20000, 2 + g % 999, TIMESTAMP '2020-02-01' + g * INTERVAL '1 minute' " +
+                "FROM generate_series(1, 100000) g");
+        jdbcTemplate.execute("VACUUM ANALYZE");
+    }
+
+    Stream<Arguments> hotQueries() {
+        List<Long> ownerItemIds = jdbcTemplate.queryForList("SELECT id FROM items WHERE owner_id = ? ORDER BY id",
+                Long.class, OWNER_ID);
+        List<Item> ownerItems = itemRepository.findAllById(ownerItemIds);
+        return Stream.of(
+                Arguments.of("bookings", "findAllByBookerId", (Runnable) () ->
+                        bookingRepository.findAllByBookerId(BUSY_BOOKER_ID, FIRST_PAGE)),
+                Arguments.of("bookings", "findAllPastBookingsByBookerId", (Runnable) () ->
+                        bookingRepository.findAllPastBookingsByBookerId(BUSY_BOOKER_ID, NOW, FIRST_PAGE)),
+                Arguments.of("bookings", "findAllWaitingBookingsByBookerId", (Runnable) () ->
+                        bookingRepository.findAllWaitingBookingsByBookerId(BUSY_BOOKER_ID, NOW, FIRST_PAGE)),
+                Arguments.of("bookings", "findAllByOwnerId", (Runnable) () ->
+                        bookingRepository.findAllByOwnerId(OWNER_ID, FIRST_PAGE)),
+                Arguments.of("bookings", "findAllPastBookingsByOwnerId", (Runnable) () ->
+                        bookingRepository.findAllPastBookingsByOwnerId(OWNER_ID, NOW, FIRST_PAGE)),
+                Arguments.of("bookings", "findAllByUserBookings", (Runnable) () ->
+                        bookingRepository.findAllByUserBookings(BUSY_BOOKER_ID, 1L, NOW)),
+                Arguments.of("bookings", "existsActiveBookingBetween", (Runnable) () ->
+                        bookingRepository.existsActiveBookingBetween(1L, NOW, NOW.plusDays(1))),
+                Arguments.of("bookings", "findLastAndNextBookings", (Runnable) () ->
+                        bookingRepository.findLastAndNextBookings(ownerItemIds, NOW)),
+                Arguments.of("items", "findByOwner_IdOrderByIdAsc", (Runnable) () ->
+                        itemRepository.findByOwner_IdOrderByIdAsc(OWNER_ID, FIRST_PAGE)),
+                Arguments.of("items", "findAllByRequestIdIn", (Runnable) () ->
+                        itemRepository.findAllByRequestIdIn(List.of(1L, 2L))),
+                Arguments.of("comments", "findByItemIn", (Runnable) () ->
+                        commentRepository.findByItemIn(ownerItems, Sort.by(Sort.Direction.DESC, "created"))),
+                Arguments.of("requests", "findAllByRequestorIdOrderByCreated", (Runnable) () ->
+                        requestRepository.findAllByRequestorIdOrderByCreated(OWNER_ID))
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("hotQueries")
+    @DisplayName("Тестирование использования индексов горячими запросами на PostgreSQL")
+    void explain_whenHotRepositoryQuery_thenDoNotScanTable(String table, String method, Runnable repositoryCall) {
+        String plan = queryPlans.explain(repositoryCall);
+
+        assertFalse(plan.contains("Seq Scan on " + table), plan);
+    }
+
+    @Test
+    @DisplayName("Тестирование плана глубокой страницы бронирований по курсору на PostgreSQL")
+    void findPageFromCursor_whenBookerCursorIsDeep_thenSeekInIndex() {
+        Map<String, Object> cursor = jdbcTemplate.queryForMap("SELECT start_date, id FROM bookings " +
+                "WHERE booker_id = ? ORDER BY start_date DESC, id DESC OFFSET 15000 LIMIT 1", BUSY_BOOKER_ID);
+
+        String plan = queryPlans.explain(() -> bookingRepository.findPageFromCursor(BookingParty.BOOKER,
+                BUSY_BOOKER_ID, BookingState.ALL, LocalDateTime.now(), toLocalDateTime(cursor.get("start_date")),
+                (Long) cursor.get("id"), PAGE_SIZE + 1));
+
+        assertTrue(plan.contains("Index Scan using ix_bookings_booker_start"), plan);
+        assertTrue(QueryPlanRecorder.rowsRemoved(plan) <= PAGE_SIZE, plan);
+    }
+
+    @Test
+    @DisplayName("Тестирование плана страницы бронирований владельца по курсору на PostgreSQL")
+    void findPageFromCursor_whenOwnerHasFewItems_thenRangeScanEachItem() {
+        Map<String, Object> cursor = jdbcTemplate.queryForMap("SELECT b.start_date, b.id FROM bookings b " +
+                "JOIN items i ON i.id = b.item_id WHERE i.owner_id = ? " +
+                "ORDER BY b.start_date DESC, b.id DESC OFFSET 100 LIMIT 1", OWNER_ID);
+
+        String plan = queryPlans.explain(() -> bookingRepository.findPageFromCursor(BookingParty.OWNER,
+                OWNER_ID, BookingState.ALL, LocalDateTime.now(), toLocalDateTime(cursor.get("start_date")),
+                (Long) cursor.get("id"), PAGE_SIZE + 1));
+
+        assertTrue(plan.contains("ix_bookings_item_start"), plan);
+        assertTrue(QueryPlanRecorder.rowsRemoved(plan) <= PAGE_SIZE, plan);
+    }
+
+    @Test
+    @DisplayName("Тестирование поиска пересечений через индекс ограничения на PostgreSQL")
+    void existsActiveBookingBetween_whenItemHasHistory_thenProbeExclusionIndex() {
+        String plan = queryPlans.explain(() ->
+                bookingRepository.existsActiveBookingBetween(1L, NOW, NOW.plusDays(1)));
+
+        assertTrue(plan.contains("ex_bookings_item_period"), plan);
+    }
+
+    @Test
+    @DisplayName("Тестирование поиска вещей через триграммные индексы на PostgreSQL")
+    void searchAvailableItems_whenTextIsSelective_thenUseTrigramIndexes() {
+        String plan = queryPlans.explain(() -> itemRepository.searchAvailableItems("item 1234", FIRST_PAGE));
+
+        assertTrue(plan.contains("ix_items_name_trgm"), plan);
+        assertTrue(plan.contains("ix_items_description_trgm"), plan);
+    }
+
+    private static LocalDateTime toLocalDateTime(Object timestamp) {
+        return ((java.sql.Timestamp) timestamp).toLocalDateTime();
+    }
+}
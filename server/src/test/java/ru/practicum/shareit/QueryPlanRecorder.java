@@ -0,0 +1,135 @@
+package ru.practicum.shareit;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+class QueryPlanRecorder implements BeanPostProcessor {
+
+    private static final Pattern ROWS_REMOVED = Pattern.compile("Rows Removed by (?:Filter|Index Recheck): (\\d+)");
+
+    private DataSource dataSource;
+    private volatile RecordedQuery firstQuery;
+    private volatile boolean recording;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource) || dataSource != null) {
+            return bean;
+        }
+        dataSource = (DataSource) bean;
+        return proxy(DataSource.class, dataSource, (method, args, result) ->
+                "getConnection".equals(method.getName()) ? recordingConnection((Connection) result) : result);
+    }
+
+    public String explain(Runnable repositoryCall) {
+        firstQuery = null;
+        recording = true;
+        try {
+            repositoryCall.run();
+        } finally {
+            recording = false;
+        }
+        if (firstQuery == null) {
+            throw new IllegalStateException("The call did not execute a query.");
+        }
+        return explain(firstQuery);
+    }
+
+    public static long rowsRemoved(String plan) {
+        Matcher matcher = ROWS_REMOVED.matcher(plan);
+        long rows = 0;
+        while (matcher.find()) {
+            rows += Long.parseLong(matcher.group(1));
+        }
+        return rows;
+    }
+
+    private String explain(RecordedQuery query) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + query.sql)) {
+            for (Parameter parameter : query.parameters) {
+                parameter.setter.invoke(statement, parameter.args);
+            }
+            StringJoiner plan = new StringJoiner("\n", query.sql + "\n", "");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString(1));
+                }
+            }
+            return plan.toString();
+        } catch (SQLException | ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not explain " + query.sql, e);
+        }
+    }
+
+    private Connection recordingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) -> {
+            if (method.getName().startsWith("prepareStatement") && result instanceof PreparedStatement) {
+                return recordingStatement((PreparedStatement) result, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement recordingStatement(PreparedStatement statement, String sql) {
+        List<Parameter> parameters = new ArrayList<>();
+        return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+            if (method.getName().startsWith("set") && args != null && args.length > 1 && args[0] instanceof Integer) {
+                parameters.add(new Parameter(method, args));
+            } else if ("executeQuery".equals(method.getName()) && recording && firstQuery == null) {
+                firstQuery = new RecordedQuery(sql, List.copyOf(parameters));
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultDecorator decorator) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return decorator.decorate(method, args, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return (T) Proxy.newProxyInstance(QueryPlanRecorder.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private interface ResultDecorator {
+        Object decorate(Method method, Object[] args, Object result) throws Throwable;
+    }
+
+    private static final class RecordedQuery {
+        private final String sql;
+        private final List<Parameter> parameters;
+
+        private RecordedQuery(String sql, List<Parameter> parameters) {
+            this.sql = sql;
+            this.parameters = parameters;
+        }
+    }
+
+    private static final class Parameter {
+        private final Method setter;
+        private final Object[] args;
+
+        private Parameter(Method setter, Object[] args) {
+            this.setter = setter;
+            this.args = args;
+        }
+    }
+}
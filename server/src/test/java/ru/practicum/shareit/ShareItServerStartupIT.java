@@ -0,0 +1,95 @@
+package ru.practicum.shareit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+@Slf4j
+class ShareItServerStartupIT {
+
+    private static final Duration HEALTH_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final long FIRST_BACKOFF_MILLIS = 5;
+
+    private static final long MAX_BACKOFF_MILLIS = 100;
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    @TempDir
+    private Path databaseDir;
+
+    @Test
+    @DisplayName("Тестирование времени запуска до первой успешной проверки здоровья")
+    void start_whenSchemaIsUpToDate_thenSkipMigrationsAndBecomeHealthy() throws InterruptedException {
+        String databaseUrl = "jdbc:h2:file:" + databaseDir.resolve("shareit");
+
+        int appliedMigrations;
+        try (ConfigurableApplicationContext context = start(databaseUrl, "cold")) {
+            appliedMigrations = countHistory(context);
+        }
+
+        try (ConfigurableApplicationContext context = start(databaseUrl, "warm")) {
+            assertEquals(appliedMigrations, countHistory(context));
+            assertEquals(0, context.getBean(Flyway.class).info().pending().length);
+            assertEquals(HttpStatus.OK, restTemplate.getForEntity(url(context, "/actuator/startup"), Map.class)
+                    .getStatusCode());
+        }
+    }
+
+    private ConfigurableApplicationContext start(String databaseUrl, String name) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ShareItServer.class)
+                .applicationStartup(new BufferingApplicationStartup(4096))
+                .profiles("test")
+                .run("--server.port=0", "--spring.datasource.url=" + databaseUrl);
+        awaitHealthy(context, startedAt);
+        log.info("{} start: {} ms to healthy", name, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        return context;
+    }
+
+    private void awaitHealthy(ConfigurableApplicationContext context, long startedAt) throws InterruptedException {
+        String healthUrl = url(context, "/actuator/health");
+        long backoffMillis = FIRST_BACKOFF_MILLIS;
+        while (System.nanoTime() - startedAt < HEALTH_TIMEOUT.toNanos()) {
+            try {
+                ResponseEntity<Map> response = restTemplate.getForEntity(healthUrl, Map.class);
+                if ("UP".equals(response.getBody().get("status"))) {
+                    return;
+                }
+            } catch (RestClientException e) {
+                log.debug("Health check failed: {}", e.getMessage());
+            }
+            Thread.sleep(backoffMillis);
+            backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+        }
+        fail("Application did not become healthy in " + HEALTH_TIMEOUT);
+    }
+
+    private int countHistory(ConfigurableApplicationContext context) {
+        return context.getBean(JdbcTemplate.class)
+                .queryForObject("SELECT COUNT(*) FROM \"flyway_schema_history\"", Integer.class);
+    }
+
+    private String url(ConfigurableApplicationContext context, String path) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return "http://localhost:" + port + path;
+    }
+}
@@ -0,0 +1,173 @@
+package ru.practicum.shareit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.item.booking.dao.BookingRepository;
+import ru.practicum.shareit.item.booking.model.Booking;
+import ru.practicum.shareit.item.booking.model.BookingStatus;
+import ru.practicum.shareit.item.booking.service.ItemBookingSummaries;
+import ru.practicum.shareit.item.comment.dao.CommentRepository;
+import ru.practicum.shareit.item.comment.model.Comment;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dao.RequestRepository;
+import ru.practicum.shareit.request.model.Request;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class StatementCountTest {
+
+    private static final int ITEMS_COUNT = 3;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ItemBookingSummaries itemBookingSummaries;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void setUpData() {
+        User owner = userRepository.save(User.builder().name("owner").email("owner@email.com").build());
+        User booker = userRepository.save(User.builder().name("booker").email("booker@email.com").build());
+        List<Long> itemIds = new ArrayList<>();
+
+        for (int i = 0; i < ITEMS_COUNT; i++) {
+            Request request = requestRepository.save(Request.builder()
+                    .description("request " + i)
+                    .requestor(booker)
+                    .build());
+            Item item = itemRepository.save(Item.builder()
+                    .name("item " + i)
+                    .description("description " + i)
+                    .available(true)
+                    .owner(owner)
+                    .requestId(request.getId())
+                    .build());
+            itemIds.add(item.getId());
+            bookingRepository.save(Booking.builder()
+                    .start(LocalDateTime.now().minusDays(2))
+                    .end(LocalDateTime.now().minusDays(1))
+                    .item(item)
+                    .booker(booker)
+                    .status(BookingStatus.APPROVED)
+                    .build());
+            bookingRepository.save(Booking.builder()
+                    .start(LocalDateTime.now().plusDays(1))
+                    .end(LocalDateTime.now().plusDays(2))
+                    .item(item)
+                    .booker(booker)
+                    .status(BookingStatus.APPROVED)
+                    .build());
+            commentRepository.save(Comment.builder()
+                    .text("comment " + i)
+                    .item(item)
+                    .author(booker)
+                    .build());
+        }
+
+        itemBookingSummaries.refresh(itemIds);
+        userService.checkUserExists(owner.getId());
+        userService.checkUserExists(booker.getId());
+    }
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @DisplayName("Тестирование количества SQL-запросов на эндпоинт")
+    @CsvSource({
+            "/bookings, 2, 1",
+            "/bookings/owner, 1, 1",
+            "/bookings/1, 1, 1",
+            "/items, 1, 3",
+            "/items/1, 1, 5",
+            "/items/search?text=item, 2, 1",
+            "/requests, 2, 2",
+            "/requests/all, 1, 4",
+            "/requests/1, 2, 1"
+    })
+    void getEndpoint_whenDataExist_thenStatementCountDoesNotDependOnRowCount(String url, long userId,
+                                                                             long expectedStatements) throws Exception {
+        mvc.perform(get(url).header("X-Sharer-User-Id", userId))
+                .andExpect(status().isOk());
+
+        assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @DisplayName("Тестирование количества SQL-запросов на ответ 304")
+    @CsvSource({
+            "/users/1, 1, 1",
+            "/items/1, 1, 3",
+            "/items/1, 2, 2",
+            "/requests/all, 1, 2"
+    })
+    void getEndpoint_whenEtagMatches_thenOnlyReadVersions(String url, long userId,
+                                                          long expectedStatements) throws Exception {
+        String etag = mvc.perform(get(url).header("X-Sharer-User-Id", userId))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        mvc.perform(get(url).header("X-Sharer-User-Id", userId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+    }
+}
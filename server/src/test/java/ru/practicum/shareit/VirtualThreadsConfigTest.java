@@ -0,0 +1,42 @@
+package ru.practicum.shareit;
+
+import org.apache.coyote.http11.Http11NioProtocol;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsConfigTest {
+
+    private static final int VIRTUAL_THREADS_JAVA_VERSION = 21;
+
+    @Test
+    @DisplayName("Тестирование запуска профиля виртуальных потоков на Java ниже 21")
+    void newVirtualThreadPerTaskExecutor_whenJavaIsOlder_thenThrowIllegalStateException() {
+        assumeTrue(Runtime.version().feature() < VIRTUAL_THREADS_JAVA_VERSION);
+
+        assertThrows(IllegalStateException.class, VirtualThreadsConfig::newVirtualThreadPerTaskExecutor);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Тестирование обработки запросов Tomcat на виртуальных потоках")
+    void virtualThreadProtocolHandlerCustomizer_whenJavaSupportsVirtualThreads_thenSetExecutor() throws Exception {
+        assumeTrue(Runtime.version().feature() >= VIRTUAL_THREADS_JAVA_VERSION);
+        Http11NioProtocol protocol = new Http11NioProtocol();
+        TomcatProtocolHandlerCustomizer<Http11NioProtocol> customizer =
+                (TomcatProtocolHandlerCustomizer<Http11NioProtocol>) new VirtualThreadsConfig()
+                        .virtualThreadProtocolHandlerCustomizer();
+
+        customizer.customize(protocol);
+
+        ExecutorService executor = (ExecutorService) protocol.getExecutor();
+        assertTrue(executor.submit(() -> (Boolean) Thread.class.getMethod("isVirtual")
+                .invoke(Thread.currentThread())).get());
+    }
+}
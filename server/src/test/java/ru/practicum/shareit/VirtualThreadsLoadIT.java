@@ -0,0 +1,132 @@
+package ru.practicum.shareit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@Slf4j
+class VirtualThreadsLoadIT {
+
+    private static final int VIRTUAL_THREADS_JAVA_VERSION = 21;
+
+    private static final int ROUNDS = 3;
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(120);
+
+    private static final String POSTGRES_URL = System.getProperty("shareit.test.postgres.url", "");
+
+    @ParameterizedTest
+    @ValueSource(ints = {1000, 5000, 10000})
+    @DisplayName("Тестирование пропускной способности на потоках платформы")
+    void getAll_whenPlatformThreads_thenReportThroughput(int connections) throws Exception {
+        measure("platform", connections);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1000, 5000, 10000})
+    @DisplayName("Тестирование пропускной способности на виртуальных потоках")
+    void getAll_whenVirtualThreads_thenReportThroughput(int connections) throws Exception {
+        assumeTrue(Runtime.version().feature() >= VIRTUAL_THREADS_JAVA_VERSION);
+        measure("virtual-threads", connections);
+    }
+
+    private void measure(String mode, int connections) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(ShareItServer.class);
+        if ("virtual-threads".equals(mode)) {
+            builder.profiles("test", "virtual-threads");
+        } else {
+            builder.profiles("test");
+        }
+        // The baseline gets the same connection limits and pool, so only the request threads differ.
+        List<String> args = new ArrayList<>(List.of("--server.port=0",
+                "--server.tomcat.max-connections=20000", "--server.tomcat.accept-count=1000",
+                "--spring.datasource.hikari.maximum-pool-size=50", "--spring.datasource.hikari.minimum-idle=50",
+                "--logging.level.root=WARN", "--logging.level.org.springframework.transaction.interceptor=WARN",
+                "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN",
+                "--spring.jpa.show_sql=false"));
+        if (!POSTGRES_URL.isEmpty()) {
+            args.addAll(List.of("--spring.datasource.driverClassName=org.postgresql.Driver",
+                    "--spring.datasource.url=" + POSTGRES_URL,
+                    "--spring.datasource.username=" + System.getProperty("shareit.test.postgres.username", "shareit"),
+                    "--spring.datasource.password=" + System.getProperty("shareit.test.postgres.password", "shareit")));
+        }
+        try (ConfigurableApplicationContext context = builder.run(args.toArray(String[]::new))) {
+            ExecutorService clientExecutor = Executors.newFixedThreadPool(16);
+            try {
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .executor(clientExecutor)
+                        .connectTimeout(REQUEST_TIMEOUT)
+                        .build();
+                String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+                long userId = createUser(client, baseUrl);
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/items"))
+                        .header("X-Sharer-User-Id", String.valueOf(userId))
+                        .timeout(REQUEST_TIMEOUT)
+                        .build();
+
+                fire(client, request, connections);
+
+                long startedAt = System.nanoTime();
+                int succeeded = 0;
+                for (int i = 0; i < ROUNDS; i++) {
+                    succeeded += fire(client, request, connections);
+                }
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+                log.warn("{} threads on {}, {} connections: {} requests in {} ms, {} req/s, {} failed", mode,
+                        POSTGRES_URL.isEmpty() ? "H2" : "PostgreSQL", connections, succeeded, elapsed.toMillis(),
+                        succeeded * 1000L / Math.max(1, elapsed.toMillis()), ROUNDS * connections - succeeded);
+                assertTrue(succeeded > 0);
+            } finally {
+                clientExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private long createUser(HttpClient client, String baseUrl) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/users"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"name\":\"load\",\"email\":\"load-" + UUID.randomUUID() + "@test.ru\"}"))
+                .build();
+        String body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        return Long.parseLong(body.replaceAll(".*\"id\":(\\d+).*", "$1"));
+    }
+
+    private int fire(HttpClient client, HttpRequest request, int connections) {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        int succeeded = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            try {
+                if (response.join().statusCode() == 200) {
+                    succeeded++;
+                }
+            } catch (RuntimeException e) {
+                log.debug("Request failed: {}", e.getMessage());
+            }
+        }
+        return succeeded;
+    }
+}
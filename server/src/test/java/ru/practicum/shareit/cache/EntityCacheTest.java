@@ -0,0 +1,91 @@
+package ru.practicum.shareit.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.cache.CacheManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {"shareit.cache.entity.maximum-size=1234", "shareit.cache.entity.expire-after-write=5m"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class EntityCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Тестирование чтения пользователя из кэша второго уровня")
+    void getUserById_whenUserWasLoaded_thenReadFromSecondLevelCache() {
+        UserDto user = userService.addNewUser(UserDto.builder().name("name").email("email@email.com").build());
+        userService.getUserById(user.getId());
+        statistics.clear();
+
+        userService.getUserById(user.getId());
+
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Тестирование инвалидации кэша второго уровня при обновлении")
+    void updateUserAndItem_whenCached_thenReturnUpdatedValues() {
+        UserDto user = userService.addNewUser(UserDto.builder().name("name").email("owner@email.com").build());
+        ItemDto item = itemService.addNewItem(user.getId(), ItemDto.builder()
+                .name("item")
+                .description("description")
+                .available(true)
+                .build());
+        itemService.getItemById(user.getId(), item.getId());
+
+        userService.updateUser(UserDto.builder().name("updated").build(), user.getId());
+        itemService.updateItem(user.getId(), item.getId(), ItemDto.builder().name("updated item").build());
+
+        assertEquals("updated", userService.getUserById(user.getId()).getName());
+        assertEquals("updated item", itemService.getItemById(user.getId(), item.getId()).getName());
+    }
+
+    @Test
+    @DisplayName("Тестирование настройки размера и времени жизни регионов кэша второго уровня")
+    void regionFactory_whenConfigured_thenApplyShareItCacheProperties() {
+        CacheManager cacheManager = ((CaffeineRegionFactory) entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache().getRegionFactory()).getCacheManager();
+        String regionName = cacheManager.getCacheNames().iterator().next();
+
+        @SuppressWarnings("unchecked")
+        CaffeineConfiguration<Object, Object> configuration = cacheManager.getCache(regionName)
+                .getConfiguration(CaffeineConfiguration.class);
+
+        assertEquals(OptionalLong.of(1234), configuration.getMaximumSize());
+        assertEquals(OptionalLong.of(Duration.ofMinutes(5).toNanos()), configuration.getExpireAfterWrite());
+    }
+}
@@ -0,0 +1,90 @@
+package ru.practicum.shareit.cache;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.user.UserController;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = UserController.class)
+class VersionEtagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserService userService;
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Тестирование ответа 304 без загрузки пользователя при совпадении версии")
+    void getUser_whenEtagMatches_thenReturnNotModifiedWithoutLoadingUser() {
+        String etag = VersionEtag.of("user", 1L, 2L);
+        when(userService.getUserEtag(1L)).thenReturn(etag);
+
+        mockMvc.perform(get("/users/{userId}", 1L).header(HttpHeaders.IF_NONE_MATCH, "\"" + etag + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(userService, never()).getUserById(anyLong());
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Тестирование ответа с ETag версии пользователя")
+    void getUser_whenEtagDiffers_thenReturnUserWithEtag() {
+        String etag = VersionEtag.of("user", 1L, 3L);
+        when(userService.getUserEtag(1L)).thenReturn(etag);
+        when(userService.getUserById(1L)).thenReturn(UserDto.builder().id(1L).name("name").email("email@email.com")
+                .build());
+
+        mockMvc.perform(get("/users/{userId}", 1L).header(HttpHeaders.IF_NONE_MATCH,
+                        "\"" + VersionEtag.of("user", 1L, 2L) + "\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + etag + "\""));
+    }
+
+    @Test
+    @DisplayName("Тестирование изменения ETag при изменении версии вложенной сущности")
+    void of_whenNestedVersionChanges_thenEtagChanges() {
+        assertEquals(VersionEtag.of("item", 1L, 0L, List.of(version(5L, 1L))),
+                VersionEtag.of("item", 1L, 0L, List.of(version(5L, 1L))));
+        assertNotEquals(VersionEtag.of("item", 1L, 0L, List.of(version(5L, 1L))),
+                VersionEtag.of("item", 1L, 0L, List.of(version(5L, 2L))));
+        assertNotEquals(VersionEtag.of("item", 1L, 0L, List.of()),
+                VersionEtag.of("item", 1L, 0L, List.of(version(5L, 1L))));
+    }
+
+    private static EntityVersion version(Long id, Long version) {
+        return new EntityVersion() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
+    }
+}
@@ -165,6 +165,34 @@ class ItemControllerTest {
         assertEquals(objectMapper.writeValueAsString(itemsDtoToExpect), result);
     }
 
+    @Test
+    @SneakyThrows
+    @DisplayName("Тестирование поиска свободных в период вещей")
+    void searchAvailableItems_thenReturnStatusOk() {
+        Long userId = 0L;
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 10, 0);
+        LocalDateTime end = LocalDateTime.of(2030, 1, 3, 10, 0);
+        List<ItemDto> itemsDtoToExpect = List.of(ItemDto.builder()
+                .name("drill")
+                .description("some item description")
+                .available(true)
+                .build());
+
+        when(itemService.searchAvailableItems(userId, "drill", start, end, 0, 10)).thenReturn(itemsDtoToExpect);
+
+        String result = mockMvc.perform(MockMvcRequestBuilders.get("/items/available")
+                        .header("X-Sharer-User-Id", userId)
+                        .param("text", "drill")
+                        .param("start", "2030-01-01T10:00:00")
+                        .param("end", "2030-01-03T10:00:00"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertEquals(objectMapper.writeValueAsString(itemsDtoToExpect), result);
+    }
+
     @Test
     @SneakyThrows
     @DisplayName("Тестирование добавления комментария к вещи по Id")
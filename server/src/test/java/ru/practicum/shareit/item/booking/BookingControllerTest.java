@@ -7,10 +7,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.item.booking.dto.BookingDto;
 import ru.practicum.shareit.item.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.item.booking.dto.BookingPageDto;
 import ru.practicum.shareit.item.booking.model.BookingState;
+import ru.practicum.shareit.item.booking.model.Booking;
 import ru.practicum.shareit.item.booking.model.BookingStatus;
 import ru.practicum.shareit.item.booking.service.BookingService;
 import ru.practicum.shareit.item.model.Item;
@@ -103,6 +106,22 @@ class BookingControllerTest {
         assertEquals(objectMapper.writeValueAsString(bookingDtoOut), result);
     }
 
+    @Test
+    @SneakyThrows
+    @DisplayName("Тестирование эндпоинта patch /bookings/{bookingId} при конкурентном изменении")
+    void update_whenBookingWasModifiedConcurrently_thenReturnStatusIsConflict() {
+        Long bookingId = 1L;
+
+        when(bookingService.update(user.getId(), bookingId, true))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Booking.class, bookingId));
+
+        mockMvc.perform(patch("/bookings/{bookingId}", bookingId)
+                        .contentType("application/json")
+                        .header("X-Sharer-User-Id", user.getId())
+                        .param("approved", "true"))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     @SneakyThrows
     @DisplayName("Тестирование эндпоинта get /bookings/{bookingId}")
@@ -205,4 +224,48 @@ class BookingControllerTest {
                         .header("X-Sharer-User-Id", user.getId()))
                 .andExpect(status().isInternalServerError());
     }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Тестирование эндпоинта get /bookings/cursor")
+    void getPage_thenReturnStatusIsOk() {
+        BookingPageDto page = BookingPageDto.builder()
+                .bookings(List.of(bookingDtoOut))
+                .nextCursor("cursor")
+                .build();
+        when(bookingService.getPageByBooker(user.getId(), BookingState.ALL.toString(), "cursor", 10))
+                .thenReturn(page);
+
+        String result = mockMvc.perform(get("/bookings/cursor")
+                        .param("state", "ALL")
+                        .param("cursor", "cursor")
+                        .param("size", "10")
+                        .header("X-Sharer-User-Id", user.getId()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertEquals(objectMapper.writeValueAsString(page), result);
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("Тестирование эндпоинта get /bookings/owner/cursor")
+    void getPageByOwner_thenReturnStatusIsOk() {
+        BookingPageDto page = BookingPageDto.builder()
+                .bookings(List.of(bookingDtoOut))
+                .build();
+        when(bookingService.getPageByOwner(user.getId(), BookingState.ALL.toString(), null, 10))
+                .thenReturn(page);
+
+        String result = mockMvc.perform(get("/bookings/owner/cursor")
+                        .header("X-Sharer-User-Id", user.getId()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertEquals(objectMapper.writeValueAsString(page), result);
+    }
 }
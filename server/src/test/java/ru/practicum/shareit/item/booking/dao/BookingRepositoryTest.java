@@ -8,18 +8,27 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.booking.dto.BookingCursor;
+import ru.practicum.shareit.item.booking.dto.ItemBookingsView;
 import ru.practicum.shareit.item.booking.model.Booking;
+import ru.practicum.shareit.item.booking.model.BookingParty;
+import ru.practicum.shareit.item.booking.model.BookingState;
 import ru.practicum.shareit.item.booking.model.BookingStatus;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
@@ -251,34 +260,182 @@ class BookingRepositoryTest {
     }
 
     @Test
-    @DisplayName("Тестирование получения последнего бронирования")
-    void getLastBooking() {
-        Optional<Booking> bookingOptional = bookingRepository.getLastBooking(1L, LocalDateTime.now());
-        Booking actualBooking;
+    @DisplayName("Тестирование получения последнего и следующего бронирований вещей")
+    void findLastAndNextBookings() {
+        Item itemWithoutBookings = Item.builder()
+                .name("name2")
+                .description("description2")
+                .available(true)
+                .owner(owner)
+                .build();
+        testEntityManager.persist(itemWithoutBookings);
+        testEntityManager.flush();
+
+        List<ItemBookingsView> bookings = bookingRepository.findLastAndNextBookings(
+                List.of(item.getId(), itemWithoutBookings.getId()), LocalDateTime.now());
+
+        assertEquals(2, bookings.size());
+        ItemBookingsView itemBookings = bookings.stream()
+                .filter(view -> view.getItemId().equals(item.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(booking.getId(), itemBookings.getLastBookingId());
+        assertEquals(user.getId(), itemBookings.getLastBookerId());
+        assertEquals(futureBooking.getId(), itemBookings.getNextBookingId());
+        assertEquals(user.getId(), itemBookings.getNextBookerId());
+
+        ItemBookingsView emptyBookings = bookings.stream()
+                .filter(view -> view.getItemId().equals(itemWithoutBookings.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertNull(emptyBookings.getLastBookingId());
+        assertNull(emptyBookings.getNextBookingId());
+    }
+
+    @Test
+    @DisplayName("Тестирование пропуска неподтвержденных бронирований при поиске последнего и следующего")
+    void findLastAndNextBookings_whenNearerBookingsAreNotApproved_thenSkipThem() {
+        testEntityManager.persist(Booking.builder()
+                .item(item)
+                .booker(owner)
+                .status(BookingStatus.REJECTED)
+                .start(LocalDateTime.now().minusMinutes(30L))
+                .end(LocalDateTime.now().minusMinutes(10L))
+                .build());
+        testEntityManager.persist(Booking.builder()
+                .item(item)
+                .booker(owner)
+                .status(BookingStatus.WAITING)
+                .start(LocalDateTime.now().plusHours(2L))
+                .end(LocalDateTime.now().plusHours(3L))
+                .build());
+        testEntityManager.flush();
+
+        List<ItemBookingsView> bookings = bookingRepository.findLastAndNextBookings(List.of(item.getId()),
+                LocalDateTime.now());
+
+        assertEquals(1, bookings.size());
+        assertEquals(booking.getId(), bookings.get(0).getLastBookingId());
+        assertEquals(futureBooking.getId(), bookings.get(0).getNextBookingId());
+        assertEquals(futureBooking.getStart().truncatedTo(ChronoUnit.MILLIS),
+                bookings.get(0).getNextStart().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    @Test
+    @DisplayName("Тестирование постраничного получения бронирований по курсору")
+    void findPageFromCursor_whenBooker_thenPagesFollowCursor() {
+        Booking sameStartBooking = Booking.builder()
+                .item(item)
+                .booker(user)
+                .status(BookingStatus.WAITING)
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .build();
+        bookingRepository.save(sameStartBooking);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<Booking> firstPage = bookingRepository.findPageFromCursor(BookingParty.BOOKER, user.getId(),
+                BookingState.ALL, LocalDateTime.now(), BookingCursor.FIRST.getStart(), BookingCursor.FIRST.getId(), 2);
+        Booking last = firstPage.get(firstPage.size() - 1);
+        List<Booking> secondPage = bookingRepository.findPageFromCursor(BookingParty.BOOKER, user.getId(),
+                BookingState.ALL, LocalDateTime.now(), last.getStart(), last.getId(), 2);
+
+        assertEquals(List.of(futureBooking.getId(), sameStartBooking.getId()),
+                firstPage.stream().map(Booking::getId).collect(Collectors.toList()));
+        assertEquals(List.of(booking.getId(), pastBooking.getId()),
+                secondPage.stream().map(Booking::getId).collect(Collectors.toList()));
+    }
 
-        if (bookingOptional.isPresent()) {
-            actualBooking = bookingOptional.get();
+    @Test
+    @DisplayName("Тестирование постраничного получения прошедших бронирований владельца по курсору")
+    void findPageFromCursor_whenOwnerAndPast_thenOnlyPastBookings() {
+        List<Booking> bookings = bookingRepository.findPageFromCursor(BookingParty.OWNER, owner.getId(),
+                BookingState.PAST, LocalDateTime.now(), BookingCursor.FIRST.getStart(), BookingCursor.FIRST.getId(),
+                10);
+        List<Booking> bookerBookings = bookingRepository.findPageFromCursor(BookingParty.BOOKER, owner.getId(),
+                BookingState.PAST, LocalDateTime.now(), BookingCursor.FIRST.getStart(), BookingCursor.FIRST.getId(),
+                10);
+
+        assertEquals(List.of(pastBooking.getId()), bookings.stream().map(Booking::getId).collect(Collectors.toList()));
+        assertTrue(bookerBookings.isEmpty());
+    }
 
-            assertEquals(actualBooking.getId(), 1L);
-        } else {
+    @Test
+    @DisplayName("Тестирование условного изменения статуса ожидающего бронирования")
+    void updateStatusIfWaiting_whenBookingIsWaiting_thenUpdateOnce() {
+        Booking waitingBooking = bookingRepository.save(Booking.builder()
+                .item(item)
+                .booker(user)
+                .status(BookingStatus.WAITING)
+                .start(LocalDateTime.now().plusDays(3L))
+                .end(LocalDateTime.now().plusDays(4L))
+                .build());
+        testEntityManager.flush();
 
-            fail();
-        }
+        int notOwnerUpdated = bookingRepository.updateStatusIfWaiting(waitingBooking.getId(), user.getId(),
+                BookingStatus.APPROVED);
+        int updated = bookingRepository.updateStatusIfWaiting(waitingBooking.getId(), owner.getId(),
+                BookingStatus.APPROVED);
+        int repeatedUpdated = bookingRepository.updateStatusIfWaiting(waitingBooking.getId(), owner.getId(),
+                BookingStatus.REJECTED);
+        Booking actualBooking = bookingRepository.findById(waitingBooking.getId()).orElseThrow();
+
+        assertEquals(0, notOwnerUpdated);
+        assertEquals(1, updated);
+        assertEquals(0, repeatedUpdated);
+        assertEquals(BookingStatus.APPROVED, actualBooking.getStatus());
+        assertEquals(1L, actualBooking.getVersion());
     }
 
     @Test
-    @DisplayName("Тестирование получения следующего бронирования")
-    void getNextBooking() {
-        Optional<Booking> bookingOptional = bookingRepository.getNextBooking(1L, LocalDateTime.now());
-        Booking actualBooking;
+    @DisplayName("Тестирование сохранения бронирования с устаревшей версией")
+    void save_whenVersionIsStale_thenThrowOptimisticLockingFailureException() {
+        Booking waitingBooking = bookingRepository.save(Booking.builder()
+                .item(item)
+                .booker(user)
+                .status(BookingStatus.WAITING)
+                .start(LocalDateTime.now().plusDays(3L))
+                .end(LocalDateTime.now().plusDays(4L))
+                .build());
+        testEntityManager.flush();
+        bookingRepository.updateStatusIfWaiting(waitingBooking.getId(), owner.getId(), BookingStatus.APPROVED);
 
-        if (bookingOptional.isPresent()) {
-            actualBooking = bookingOptional.get();
+        waitingBooking.setStatus(BookingStatus.REJECTED);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> bookingRepository.saveAndFlush(waitingBooking));
+    }
+
+    @Test
+    @DisplayName("Тестирование поиска пересекающихся бронирований вещи")
+    void existsActiveBookingBetween() {
+        LocalDateTime start = LocalDateTime.now().plusDays(5L).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime end = start.plusDays(1L);
+        bookingRepository.save(Booking.builder()
+                .item(item)
+                .booker(user)
+                .status(BookingStatus.WAITING)
+                .start(start)
+                .end(end)
+                .build());
+        bookingRepository.save(Booking.builder()
+                .item(item)
+                .booker(user)
+                .status(BookingStatus.REJECTED)
+                .start(end.plusDays(2L))
+                .end(end.plusDays(3L))
+                .build());
+        testEntityManager.flush();
 
-            assertEquals(actualBooking.getId(), 3L);
-        } else {
+        boolean overlapping = bookingRepository.existsActiveBookingBetween(item.getId(), start.plusHours(1L),
+                end.plusHours(1L));
+        boolean adjacent = bookingRepository.existsActiveBookingBetween(item.getId(), end, end.plusDays(1L));
+        boolean rejectedOnly = bookingRepository.existsActiveBookingBetween(item.getId(), end.plusDays(2L),
+                end.plusDays(3L));
 
-            fail();
-        }
+        assertTrue(overlapping);
+        assertFalse(adjacent);
+        assertFalse(rejectedOnly);
     }
 }
@@ -6,12 +6,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exceptions.ObjectNotFoundException;
 import ru.practicum.shareit.item.booking.dto.BookingDto;
 import ru.practicum.shareit.item.booking.dto.BookingDtoOut;
 import ru.practicum.shareit.item.booking.model.BookingState;
 import ru.practicum.shareit.item.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.user.dto.UserDto;
@@ -36,6 +38,9 @@ public class BookingServiceIT {
     @Autowired
     private ItemService itemService;
 
+    @Autowired
+    private ItemRepository itemRepository;
+
     private final UserDto userDto1 = UserDto.builder()
             .name("name1")
             .email("email1@email.com")
@@ -64,6 +69,12 @@ public class BookingServiceIT {
             .end(LocalDateTime.now().plusSeconds(11L))
             .build();
 
+    private final BookingDto bookingDto2 = BookingDto.builder()
+            .itemId(2L)
+            .start(LocalDateTime.now().plusSeconds(12L))
+            .end(LocalDateTime.now().plusSeconds(13L))
+            .build();
+
     @Test
     @DisplayName("Интеграционное тестирование добавления бронирования")
     void addBooking() {
@@ -73,7 +84,7 @@ public class BookingServiceIT {
         itemService.addNewItem(addedUser2.getId(), itemDto2);
 
         BookingDtoOut bookingDtoOut1 = bookingService.create(addedUser1.getId(), bookingDto1);
-        BookingDtoOut bookingDtoOut2 = bookingService.create(addedUser1.getId(), bookingDto1);
+        BookingDtoOut bookingDtoOut2 = bookingService.create(addedUser1.getId(), bookingDto2);
 
         assertEquals(1L, bookingDtoOut1.getId());
         assertEquals(2L, bookingDtoOut2.getId());
@@ -104,4 +115,22 @@ public class BookingServiceIT {
                 .assertThrows(ObjectNotFoundException.class,
                         () -> bookingService.update(userId, bookingId, true));
     }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Интеграционное тестирование сохранения версии вещи при бронировании")
+    void create_whenBookingIsCommitted_thenItemVersionIsUnchanged() {
+        UserDto owner = userService.addNewUser(userDto1);
+        UserDto booker = userService.addNewUser(userDto2);
+        ItemDto item = itemService.addNewItem(owner.getId(), itemDto1);
+        long version = itemRepository.findById(item.getId()).orElseThrow().getVersion();
+
+        bookingService.create(booker.getId(), BookingDto.builder()
+                .itemId(item.getId())
+                .start(LocalDateTime.now().plusDays(1L))
+                .end(LocalDateTime.now().plusDays(2L))
+                .build());
+
+        assertEquals(version, itemRepository.findById(item.getId()).orElseThrow().getVersion());
+    }
 }
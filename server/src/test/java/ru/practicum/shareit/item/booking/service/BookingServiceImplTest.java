@@ -7,12 +7,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.ObjectNotFoundException;
 import ru.practicum.shareit.exceptions.BookingValidationException;
 import ru.practicum.shareit.item.booking.dao.BookingRepository;
+import ru.practicum.shareit.item.booking.dto.BookingCursor;
 import ru.practicum.shareit.item.booking.dto.BookingDto;
 import ru.practicum.shareit.item.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.item.booking.dto.BookingPageDto;
 import ru.practicum.shareit.item.booking.model.Booking;
+import ru.practicum.shareit.item.booking.model.BookingParty;
+import ru.practicum.shareit.item.booking.model.BookingState;
 import ru.practicum.shareit.item.booking.model.BookingStatus;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
@@ -25,9 +30,15 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static ru.practicum.shareit.item.booking.BookingMapper.toBooking;
 import static ru.practicum.shareit.item.booking.BookingMapper.toBookingDtoOut;
@@ -44,6 +55,9 @@ class BookingServiceImplTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private ItemBookingSummaries itemBookingSummaries;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -126,6 +140,23 @@ class BookingServiceImplTest {
         BookingDtoOut actualBookingDtoOut = bookingService.create(userDto.getId(), bookingDto);
 
         assertEquals(expectedBookingDtoOut, actualBookingDtoOut);
+        verify(itemBookingSummaries).lock(item.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование добавления бронирования на занятый период")
+    void create_whenPeriodOverlapsActiveBooking_thenThrowConflictException() {
+        when(userService.getUserById(userDto.getId())).thenReturn(userDto);
+        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
+        when(bookingRepository.existsActiveBookingBetween(item.getId(), bookingDto.getStart(), bookingDto.getEnd()))
+                .thenReturn(true);
+
+        ConflictException conflictException = assertThrows(ConflictException.class,
+                () -> bookingService.create(userDto.getId(), bookingDto));
+
+        assertEquals(String.format("Item with id %s is already booked between %s and %s.", item.getId(),
+                bookingDto.getStart(), bookingDto.getEnd()), conflictException.getMessage());
+        verify(bookingRepository, never()).save(any(Booking.class));
     }
 
     @Test
@@ -185,28 +216,34 @@ class BookingServiceImplTest {
     @Test
     @DisplayName("Тестирование одобрения бронирования")
     void update() {
-        when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(bookingWaiting));
-        when(bookingRepository.save(any(Booking.class))).thenReturn(bookingWaiting);
+        when(bookingRepository.updateStatusIfWaiting(bookingWaiting.getId(), owner.getId(), BookingStatus.APPROVED))
+                .thenReturn(1);
+        when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(booking));
 
         BookingDtoOut actualBookingDtoOut = bookingService.update(owner.getId(), bookingWaiting.getId(), true);
 
         assertEquals(BookingStatus.APPROVED, actualBookingDtoOut.getStatus());
+        verify(itemBookingSummaries).refresh(List.of(item.getId()));
     }
 
     @Test
     @DisplayName("Тестирование запрета бронирования")
     void update_whenStatusNotApproved() {
+        bookingWaiting.setStatus(BookingStatus.REJECTED);
+        when(bookingRepository.updateStatusIfWaiting(bookingWaiting.getId(), owner.getId(), BookingStatus.REJECTED))
+                .thenReturn(1);
         when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(bookingWaiting));
-        when(bookingRepository.save(any(Booking.class))).thenReturn(bookingWaiting);
 
         BookingDtoOut actualBookingDtoOut = bookingService.update(owner.getId(), bookingWaiting.getId(), false);
 
         assertEquals(BookingStatus.REJECTED, actualBookingDtoOut.getStatus());
+        verify(itemBookingSummaries, never()).refresh(anyList());
     }
 
     @Test
     @DisplayName("Тестирование одобрения бронирования когда статус не WAITING")
     void update_whenStatusNotWaiting() {
+        when(bookingRepository.updateStatusIfWaiting(anyLong(), anyLong(), any(BookingStatus.class))).thenReturn(0);
         when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(booking));
 
         BookingValidationException bookingValidationException = assertThrows(BookingValidationException.class,
@@ -219,6 +256,7 @@ class BookingServiceImplTest {
     @Test
     @DisplayName("Тестирование одобрения бронирования не владельцем вещи")
     void update_whenUserIsNotItemOwner_thenThrowNotFoundException() {
+        when(bookingRepository.updateStatusIfWaiting(anyLong(), anyLong(), any(BookingStatus.class))).thenReturn(0);
         when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(booking));
 
         ObjectNotFoundException bookingNotFoundException = assertThrows(ObjectNotFoundException.class,
@@ -228,6 +266,18 @@ class BookingServiceImplTest {
                 booking.getItem().getOwner().getId(), booking.getItem().getId()));
     }
 
+    @Test
+    @DisplayName("Тестирование одобрения несуществующего бронирования")
+    void update_whenBookingIsNotFound_thenThrowNotFoundException() {
+        when(bookingRepository.updateStatusIfWaiting(anyLong(), anyLong(), any(BookingStatus.class))).thenReturn(0);
+        when(bookingRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        ObjectNotFoundException bookingNotFoundException = assertThrows(ObjectNotFoundException.class,
+                () -> bookingService.update(owner.getId(), 99L, true));
+
+        assertEquals(bookingNotFoundException.getMessage(), "Booking with id 99 was not found.");
+    }
+
     @Test
     @DisplayName("Тестирование получения бронирования по Id")
     void getById() {
@@ -265,171 +315,229 @@ class BookingServiceImplTest {
     @DisplayName("Тестирование получения всех бронирований")
     void getAllByBooker_whenBookingStateAll() {
         List<BookingDtoOut> expectedBookingsDtoOut = List.of(toBookingDtoOut(booking));
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(bookingRepository.findAllByBookerId(anyLong(), any(Pageable.class))).thenReturn(List.of(booking));
 
         List<BookingDtoOut> actualBookingsDtoOut = bookingService.getAllByBooker(user.getId(), "ALL", 0, 10);
 
         assertEquals(expectedBookingsDtoOut, actualBookingsDtoOut);
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения всех бронирований со статусом CURRENT")
     void getAllByBooker_whenBookingStateCURRENT() {
         List<BookingDtoOut> expectedBookingsDtoOut = List.of(toBookingDtoOut(booking));
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(bookingRepository.findAllCurrentBookingsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class)))
                 .thenReturn(List.of(booking));
 
         List<BookingDtoOut> actualBookingsDtoOut = bookingService.getAllByBooker(user.getId(), "CURRENT", 0, 10);
 
         assertEquals(expectedBookingsDtoOut, actualBookingsDtoOut);
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения всех бронирований со статусом PAST")
     void getAllByBooker_whenBookingStatePAST() {
         List<BookingDtoOut> expectedBookingsDtoOut = List.of(toBookingDtoOut(booking));
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(bookingRepository.findAllPastBookingsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class)))
                 .thenReturn(List.of(booking));
 
         List<BookingDtoOut> actualBookingsDtoOut = bookingService.getAllByBooker(user.getId(), "PAST", 0, 10);
 
         assertEquals(expectedBookingsDtoOut, actualBookingsDtoOut);
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения всех бронирований со статусом FUTURE")
     void getAllByBooker_whenBookingStateFUTURE() {
         List<BookingDtoOut> expectedBookingsDtoOut = List.of(toBookingDtoOut(booking));
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(bookingRepository.findAllFutureBookingsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class)))
                 .thenReturn(List.of(booking));
 
         List<BookingDtoOut> actualBookingsDtoOut = bookingService.getAllByBooker(user.getId(), "FUTURE", 0, 10);
 
         assertEquals(expectedBookingsDtoOut, actualBookingsDtoOut);
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения всех бронирований со статусом WAITING")
     void getAllByBooker_whenBookingStateWAITING() {
         List<BookingDtoOut> expectedBookingsDtoOut = List.of(toBookingDtoOut(booking));
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(bookingRepository.findAllWaitingBookingsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class)))
                 .thenReturn(List.of(booking));
 
         List<BookingDtoOut> actualBookingsDtoOut = bookingService.getAllByBooker(user.getId(), "WAITING", 0, 10);
 
         assertEquals(expectedBookingsDtoOut, actualBookingsDtoOut);
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения всех бронирований со статусом REJECTED")
     void getAllByBooker_whenBookingStateREJECTED() {
         List<BookingDtoOut> expectedBookingsDtoOut = List.of(toBookingDtoOut(booking));
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(bookingRepository.findAllRejectedBookingsByBookerId(anyLong(), any(Pageable.class)))
                 .thenReturn(List.of(booking));
 
         List<BookingDtoOut> actualBookingsDtoOut = bookingService.getAllByBooker(user.getId(), "REJECTED", 0, 10);
 
         assertEquals(expectedBookingsDtoOut, actualBookingsDtoOut);
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения всех бронирований с несуществующим статусом")
     void getAllByBooker_whenBookingStateIsNotValid_thenThrowIllegalArgumentException() {
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
 
         assertThrows(IllegalArgumentException.class,
                 () -> bookingService.getAllByBooker(user.getId(), "ERROR", 0, 10));
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения всех бронирований владельцем")
     void getAllByOwner_whenBookingStateAll() {
         List<BookingDtoOut> expectedBookingsDtoOut = List.of(toBookingDtoOut(booking));
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(bookingRepository.findAllByOwnerId(anyLong(), any(Pageable.class))).thenReturn(List.of(booking));
 
         List<BookingDtoOut> actualBookingsDtoOut = bookingService.getAllByOwner(user.getId(), "ALL", 0, 10);
 
         assertEquals(expectedBookingsDtoOut, actualBookingsDtoOut);
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения всех бронирований владельцем со статусом CURRENT")
     void getAllByOwner_whenBookingStateCURRENT() {
         List<BookingDtoOut> expectedBookingsDtoOut = List.of(toBookingDtoOut(booking));
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(bookingRepository.findAllCurrentBookingsByOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class)))
                 .thenReturn(List.of(booking));
 
         List<BookingDtoOut> actualBookingsDtoOut = bookingService.getAllByOwner(user.getId(), "CURRENT", 0, 10);
 
         assertEquals(expectedBookingsDtoOut, actualBookingsDtoOut);
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения всех бронирований владельцем со статусом PAST")
     void getAllByOwner_whenBookingStatePAST() {
         List<BookingDtoOut> expectedBookingsDtoOut = List.of(toBookingDtoOut(booking));
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(bookingRepository.findAllPastBookingsByOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class)))
                 .thenReturn(List.of(booking));
 
         List<BookingDtoOut> actualBookingsDtoOut = bookingService.getAllByOwner(user.getId(), "PAST", 0, 10);
 
         assertEquals(expectedBookingsDtoOut, actualBookingsDtoOut);
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения всех бронирований владельцем со статусом FUTURE")
     void getAllByOwner_whenBookingStateFUTURE() {
         List<BookingDtoOut> expectedBookingsDtoOut = List.of(toBookingDtoOut(booking));
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(bookingRepository.findAllFutureBookingsByOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class)))
                 .thenReturn(List.of(booking));
 
         List<BookingDtoOut> actualBookingsDtoOut = bookingService.getAllByOwner(user.getId(), "FUTURE", 0, 10);
 
         assertEquals(expectedBookingsDtoOut, actualBookingsDtoOut);
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения всех бронирований владельцем со статусом WAITING")
     void getAllByOwner_whenBookingStateWAITING() {
         List<BookingDtoOut> expectedBookingsDtoOut = List.of(toBookingDtoOut(booking));
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(bookingRepository.findAllWaitingBookingsByOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class)))
                 .thenReturn(List.of(booking));
 
         List<BookingDtoOut> actualBookingsDtoOut = bookingService.getAllByOwner(user.getId(), "WAITING", 0, 10);
 
         assertEquals(expectedBookingsDtoOut, actualBookingsDtoOut);
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения всех бронирований владельцем со статусом REJECTED")
     void getAllByOwner_whenBookingStateREJECTED() {
         List<BookingDtoOut> expectedBookingsDtoOut = List.of(toBookingDtoOut(booking));
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(bookingRepository.findAllRejectedBookingsByOwnerId(anyLong(), any(Pageable.class)))
                 .thenReturn(List.of(booking));
 
         List<BookingDtoOut> actualBookingsDtoOut = bookingService.getAllByOwner(user.getId(), "REJECTED", 0, 10);
 
         assertEquals(expectedBookingsDtoOut, actualBookingsDtoOut);
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения всех бронирований владельцем со несуществующим статусом")
     void getAllByOwner_whenBookingStateIsNotValid_thenThrowIllegalArgumentException() {
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
 
         assertThrows(IllegalArgumentException.class,
                 () -> bookingService.getAllByBooker(user.getId(), "ERROR", 0, 10));
+        verify(userService).checkUserExists(user.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование получения первой страницы бронирований по курсору")
+    void getPageByBooker_whenMoreBookingsExist_thenReturnNextCursor() {
+        Booking nextBooking = Booking.builder()
+                .id(2L)
+                .start(booking.getStart().minusHours(1L))
+                .end(booking.getEnd())
+                .status(BookingStatus.APPROVED)
+                .item(item)
+                .booker(user)
+                .build();
+        when(bookingRepository.findPageFromCursor(eq(BookingParty.BOOKER), eq(user.getId()), eq(BookingState.ALL),
+                any(LocalDateTime.class), eq(BookingCursor.FIRST.getStart()), eq(BookingCursor.FIRST.getId()), eq(2)))
+                .thenReturn(List.of(booking, nextBooking));
+
+        BookingPageDto page = bookingService.getPageByBooker(user.getId(), "ALL", null, 1);
+
+        assertEquals(List.of(toBookingDtoOut(booking)), page.getBookings());
+        assertEquals(BookingCursor.of(booking), BookingCursor.decode(page.getNextCursor()));
+        verify(userService).checkUserExists(user.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование получения последней страницы бронирований владельца по курсору")
+    void getPageByOwner_whenLastPage_thenReturnNullCursor() {
+        BookingCursor cursor = new BookingCursor(booking.getStart().plusDays(1L), 5L);
+        when(bookingRepository.findPageFromCursor(eq(BookingParty.OWNER), eq(owner.getId()), eq(BookingState.PAST),
+                any(LocalDateTime.class), eq(cursor.getStart()), eq(cursor.getId()), eq(11)))
+                .thenReturn(List.of(booking));
+
+        BookingPageDto page = bookingService.getPageByOwner(owner.getId(), "PAST", cursor.encode(), 10);
+
+        assertEquals(List.of(toBookingDtoOut(booking)), page.getBookings());
+        assertNull(page.getNextCursor());
+        verify(userService).checkUserExists(owner.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование получения страницы бронирований с некорректным курсором")
+    void getPageByBooker_whenCursorIsInvalid_thenThrowBookingValidationException() {
+        BookingValidationException exception = assertThrows(BookingValidationException.class,
+                () -> bookingService.getPageByBooker(user.getId(), "ALL", "not-a-cursor", 10));
+
+        assertEquals("Cursor not-a-cursor is not valid.", exception.getMessage());
+        verify(userService).checkUserExists(user.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование получения страницы бронирований слишком большого размера")
+    void getPageByOwner_whenSizeIsTooLarge_thenThrowBookingValidationException() {
+        BookingValidationException exception = assertThrows(BookingValidationException.class,
+                () -> bookingService.getPageByOwner(owner.getId(), "ALL", null, Integer.MAX_VALUE));
+
+        assertEquals("Page size 2147483647 should be between 1 and 1000.", exception.getMessage());
+        verify(bookingRepository, never()).findPageFromCursor(any(BookingParty.class), anyLong(),
+                any(BookingState.class), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), anyInt());
     }
 }
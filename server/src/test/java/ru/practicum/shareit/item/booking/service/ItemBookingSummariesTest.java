@@ -0,0 +1,165 @@
+package ru.practicum.shareit.item.booking.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.item.booking.dao.ItemBookingSummaryRepository;
+import ru.practicum.shareit.item.booking.dto.ItemBookingsView;
+import ru.practicum.shareit.item.booking.model.Booking;
+import ru.practicum.shareit.item.booking.model.BookingStatus;
+import ru.practicum.shareit.item.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import(ItemBookingSummaries.class)
+class ItemBookingSummariesTest {
+
+    @Autowired
+    private ItemBookingSummaries itemBookingSummaries;
+
+    @Autowired
+    private ItemBookingSummaryRepository summaryRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    private User booker;
+    private Item item;
+    private Booking lastBooking;
+    private Booking nextBooking;
+
+    @BeforeEach
+    void init() {
+        User owner = testEntityManager.persist(User.builder()
+                .name("owner")
+                .email("owner@email.com")
+                .build());
+        booker = testEntityManager.persist(User.builder()
+                .name("booker")
+                .email("booker@email.com")
+                .build());
+        item = testEntityManager.persist(Item.builder()
+                .name("name")
+                .description("description")
+                .available(true)
+                .owner(owner)
+                .build());
+        lastBooking = testEntityManager.persist(booking(BookingStatus.APPROVED, now.minusDays(2L)));
+        nextBooking = testEntityManager.persist(booking(BookingStatus.APPROVED, now.plusDays(1L)));
+        testEntityManager.persist(booking(BookingStatus.WAITING, now.plusHours(1L)));
+        testEntityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Тестирование пересчета сводки бронирований вещи")
+    void refresh_whenItemHasApprovedBookings_thenStoreLastAndNext() {
+        itemBookingSummaries.register(item.getId());
+
+        itemBookingSummaries.refresh(List.of(item.getId()));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        ItemBookingSummary summary = summaryRepository.findById(item.getId()).orElseThrow();
+        assertEquals(lastBooking.getId(), summary.getLastBookingId());
+        assertEquals(booker.getId(), summary.getLastBookerId());
+        assertEquals(nextBooking.getId(), summary.getNextBookingId());
+        assertEquals(nextBooking.getStart(), summary.getValidUntil());
+    }
+
+    @Test
+    @DisplayName("Тестирование чтения устаревшей сводки бронирований вещи")
+    void get_whenSummaryIsExpired_thenLoadBookings() {
+        summaryRepository.save(ItemBookingSummary.builder()
+                .itemId(item.getId())
+                .validUntil(now.minusDays(1L))
+                .build());
+        testEntityManager.flush();
+
+        Map<Long, ItemBookingsView> bookings = itemBookingSummaries.get(List.of(item.getId()), now);
+
+        assertEquals(lastBooking.getId(), bookings.get(item.getId()).getLastBookingId());
+        assertEquals(nextBooking.getId(), bookings.get(item.getId()).getNextBookingId());
+    }
+
+    @Test
+    @DisplayName("Тестирование чтения актуальной сводки бронирований вещи")
+    void get_whenSummaryIsValid_thenReturnStoredSummary() {
+        itemBookingSummaries.register(item.getId());
+        testEntityManager.flush();
+
+        Map<Long, ItemBookingsView> bookings = itemBookingSummaries.get(List.of(item.getId()), now);
+
+        assertNull(bookings.get(item.getId()).getLastBookingId());
+        assertNull(bookings.get(item.getId()).getNextBookingId());
+    }
+
+    @Test
+    @DisplayName("Тестирование фонового пересчета устаревших сводок")
+    void sweep_whenSummaryIsExpired_thenRefreshIt() {
+        summaryRepository.save(ItemBookingSummary.builder()
+                .itemId(item.getId())
+                .validUntil(now.minusDays(1L))
+                .build());
+        testEntityManager.flush();
+
+        itemBookingSummaries.sweep();
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        ItemBookingSummary summary = summaryRepository.findById(item.getId()).orElseThrow();
+        assertEquals(lastBooking.getId(), summary.getLastBookingId());
+        assertEquals(nextBooking.getStart(), summary.getValidUntil());
+    }
+
+    @Test
+    @DisplayName("Тестирование планирования пересчета сводок в пределах горизонта")
+    void sweep_whenSummaryExpiresWithinHorizon_thenScheduleIt() {
+        Item farItem = testEntityManager.persist(Item.builder()
+                .name("far")
+                .description("description")
+                .available(true)
+                .owner(item.getOwner())
+                .build());
+        summaryRepository.save(ItemBookingSummary.builder()
+                .itemId(item.getId())
+                .validUntil(now.plusMinutes(5L))
+                .build());
+        summaryRepository.save(ItemBookingSummary.builder()
+                .itemId(farItem.getId())
+                .validUntil(now.plusDays(5L))
+                .build());
+        testEntityManager.flush();
+
+        itemBookingSummaries.sweep();
+
+        assertTrue(itemBookingSummaries.isScheduled(item.getId()));
+        assertFalse(itemBookingSummaries.isScheduled(farItem.getId()));
+    }
+
+    private Booking booking(BookingStatus status, LocalDateTime start) {
+        return Booking.builder()
+                .item(item)
+                .booker(booker)
+                .status(status)
+                .start(start)
+                .end(start.plusHours(2L))
+                .build();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.cache.EntityVersion;
 import ru.practicum.shareit.item.comment.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
@@ -67,4 +68,17 @@ class CommentRepositoryTest {
         assertEquals(comments.size(), 1);
         assertEquals(comments.get(0).getText(), "comment");
     }
+
+    @Test
+    @DisplayName("Тестирование получения версий авторов комментариев по Id вещи")
+    void findAuthorVersionsByItemId() {
+        user.setName("new name");
+        testEntityManager.flush();
+
+        List<EntityVersion> versions = commentRepository.findAuthorVersionsByItemId(item.getId());
+
+        assertEquals(1, versions.size());
+        assertEquals(comment.getId(), versions.get(0).getId());
+        assertEquals(1L, versions.get(0).getVersion());
+    }
 }
@@ -7,12 +7,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.booking.model.Booking;
+import ru.practicum.shareit.item.booking.model.BookingStatus;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.util.OffsetPageRequest;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -59,4 +66,126 @@ class ItemRepositoryTest {
         assertEquals(items.size(), 1);
         assertEquals(items.get(0).getName(), "name");
     }
+
+    @Test
+    @DisplayName("Тестирование поиска доступных вещей по тексту")
+    void searchAvailableItems() {
+        itemRepository.save(Item.builder()
+                .name("Дрель")
+                .description("Простая дрель")
+                .available(true)
+                .owner(user)
+                .build());
+        itemRepository.save(Item.builder()
+                .name("Аккумуляторная дрель")
+                .description("Недоступна")
+                .available(false)
+                .owner(user)
+                .build());
+        itemRepository.save(Item.builder()
+                .name("Отвертка")
+                .description("Аккумуляторная ДРЕЛЬ-отвертка")
+                .available(true)
+                .owner(user)
+                .build());
+
+        List<Item> items = itemRepository.searchAvailableItems("дРеЛь", PageRequest.of(0, 10));
+
+        assertEquals(2, items.size());
+        assertEquals("Дрель", items.get(0).getName());
+        assertEquals("Отвертка", items.get(1).getName());
+    }
+
+    @Test
+    @DisplayName("Тестирование постраничного поиска доступных вещей")
+    void searchAvailableItems_whenPaged_thenReturnFullPages() {
+        for (int i = 0; i < 5; i++) {
+            itemRepository.save(Item.builder()
+                    .name("other " + i)
+                    .description("nothing")
+                    .available(true)
+                    .owner(user)
+                    .build());
+            itemRepository.save(Item.builder()
+                    .name("drill " + i)
+                    .description("drill")
+                    .available(true)
+                    .owner(user)
+                    .build());
+        }
+
+        List<Item> items = itemRepository.searchAvailableItems("drill", PageRequest.of(1, 2));
+
+        assertEquals(2, items.size());
+        assertEquals("drill 2", items.get(0).getName());
+        assertEquals("drill 3", items.get(1).getName());
+    }
+
+    @Test
+    @DisplayName("Тестирование страницы вещей владельца со смещением, не кратным размеру страницы")
+    void findByOwner_IdOrderByIdAsc_whenOffsetIsNotAligned_thenStartAtOffset() {
+        for (int i = 0; i < 4; i++) {
+            itemRepository.save(Item.builder()
+                    .name("item " + i)
+                    .description("item")
+                    .available(true)
+                    .owner(user)
+                    .build());
+        }
+
+        Page<Item> items = itemRepository.findByOwner_IdOrderByIdAsc(user.getId(), OffsetPageRequest.of(1, 2));
+
+        assertEquals(List.of("item 0", "item 1"), items.map(Item::getName).getContent());
+        assertEquals(5L, items.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Тестирование поиска свободных в период вещей")
+    void searchItemsFreeBetween() {
+        User booker = testEntityManager.persist(User.builder()
+                .name("booker")
+                .email("booker@email.com")
+                .build());
+        Item bookedDrill = itemRepository.save(Item.builder()
+                .name("drill booked")
+                .description("drill")
+                .available(true)
+                .owner(user)
+                .build());
+        Item rejectedDrill = itemRepository.save(Item.builder()
+                .name("drill rejected")
+                .description("drill")
+                .available(true)
+                .owner(user)
+                .build());
+        Item adjacentDrill = itemRepository.save(Item.builder()
+                .name("drill adjacent")
+                .description("drill")
+                .available(true)
+                .owner(user)
+                .build());
+        LocalDateTime start = LocalDateTime.now().plusDays(7L).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime end = start.plusDays(2L);
+        testEntityManager.persist(booking(bookedDrill, booker, BookingStatus.APPROVED, start.plusDays(1L), end.plusDays(1L)));
+        testEntityManager.persist(booking(rejectedDrill, booker, BookingStatus.REJECTED, start, end));
+        testEntityManager.persist(booking(adjacentDrill, booker, BookingStatus.WAITING, end, end.plusDays(1L)));
+        testEntityManager.flush();
+
+        List<Item> items = itemRepository.searchItemsFreeBetween("drill", start, end, BookingStatus.ACTIVE,
+                PageRequest.of(0, 10));
+
+        assertEquals(List.of(rejectedDrill.getId(), adjacentDrill.getId()),
+                items.stream().map(Item::getId).collect(Collectors.toList()));
+    }
+
+    private static Booking booking(Item item, User booker, BookingStatus status, LocalDateTime start,
+                                   LocalDateTime end) {
+        return Booking.builder()
+                .item(item)
+                .booker(booker)
+                .status(status)
+                .start(start)
+                .end(end)
+                .build();
+    }
 }
@@ -12,13 +12,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.cache.EntityCacheEvictor;
 import ru.practicum.shareit.exceptions.ForbiddenException;
 import ru.practicum.shareit.exceptions.ObjectNotFoundException;
 import ru.practicum.shareit.exceptions.BookingValidationException;
 import ru.practicum.shareit.item.ItemMapper;
 import ru.practicum.shareit.item.booking.dao.BookingRepository;
+import ru.practicum.shareit.item.booking.dto.ItemBookingsView;
 import ru.practicum.shareit.item.booking.model.Booking;
 import ru.practicum.shareit.item.booking.model.BookingStatus;
+import ru.practicum.shareit.item.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.item.booking.service.ItemBookingSummaries;
 import ru.practicum.shareit.item.comment.CommentMapper;
 import ru.practicum.shareit.item.comment.dao.CommentRepository;
 import ru.practicum.shareit.item.comment.dto.CommentDto;
@@ -29,14 +33,21 @@ import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.util.OffsetPageRequest;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 import static ru.practicum.shareit.item.booking.BookingMapper.toBookingItemDto;
 import static ru.practicum.shareit.item.comment.CommentMapper.toCommentDto;
@@ -56,6 +67,15 @@ class ItemServiceImplTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ItemTokenIndex itemTokenIndex;
+
+    @Mock
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @Mock
+    private ItemBookingSummaries itemBookingSummaries;
+
     @InjectMocks
     private ItemServiceImpl itemService;
 
@@ -127,15 +147,6 @@ class ItemServiceImplTest {
             .end(LocalDateTime.now().minusDays(1L))
             .build();
 
-    private final Booking pastBooking = Booking.builder()
-            .id(3L)
-            .item(item)
-            .booker(user)
-            .status(BookingStatus.APPROVED)
-            .start(LocalDateTime.now().minusDays(10L))
-            .end(LocalDateTime.now().minusDays(9L))
-            .build();
-
     private final Booking nextBooking = Booking.builder()
             .id(4L)
             .item(item)
@@ -145,15 +156,6 @@ class ItemServiceImplTest {
             .end(LocalDateTime.now().plusDays(2L))
             .build();
 
-    private final Booking futureBooking = Booking.builder()
-            .id(5L)
-            .item(item)
-            .booker(user)
-            .status(BookingStatus.APPROVED)
-            .start(LocalDateTime.now().plusDays(10L))
-            .end(LocalDateTime.now().plusDays(20L))
-            .build();
-
     @Test
     @DisplayName("Тестирование добавления вещи")
     void addNewItem_whenInvoked_returnItemDto() {
@@ -165,6 +167,8 @@ class ItemServiceImplTest {
         assertEquals(actualItemDto.getId(), 1L);
         assertEquals(actualItemDto.getName(), "item name");
         verify(itemRepository, times(1)).save(item);
+        verify(itemTokenIndex, times(1)).index(item);
+        verify(itemBookingSummaries, times(1)).register(item.getId());
     }
 
     @Test
@@ -189,6 +193,7 @@ class ItemServiceImplTest {
 
         assertEquals("updated name", savedItem.getName());
         assertEquals("updated description", savedItem.getDescription());
+        verify(entityCacheEvictor).evict(Item.class, itemDto.getId());
     }
 
     @Test
@@ -241,18 +246,81 @@ class ItemServiceImplTest {
     @Test
     @DisplayName("Тестирование получения вещи по Id")
     void getItemById() {
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(itemRepository.findById(item.getId())).thenReturn(Optional.of(item));
 
         ItemDto actualItemDto = itemService.getItemById(user.getId(), item.getId());
 
         assertEquals(itemDto, actualItemDto);
+        verify(userService).checkUserExists(user.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование получения вещи по Id владельцем с бронированиями и комментариями")
+    void getItemById_whenUserIsOwner_thenReturnBookingsAndComments() {
+        when(itemRepository.findById(item.getId())).thenReturn(Optional.of(item));
+        when(commentRepository.findAllByItemId(item.getId())).thenReturn(List.of(comment));
+        when(itemBookingSummaries.get(eq(List.of(item.getId())), any(LocalDateTime.class)))
+                .thenReturn(Map.<Long, ItemBookingsView>of(item.getId(), ItemBookingSummary.builder()
+                        .itemId(item.getId())
+                        .lastBookingId(lastBooking.getId())
+                        .lastBookerId(lastBooking.getBooker().getId())
+                        .build()));
+
+        ItemDto actualItemDto = itemService.getItemById(user.getId(), item.getId());
+
+        assertEquals(toBookingItemDto(lastBooking), actualItemDto.getLastBooking());
+        assertNull(actualItemDto.getNextBooking());
+        assertEquals(List.of(toCommentDto(comment)), actualItemDto.getComments());
+        verify(userService).checkUserExists(user.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование получения вещи по Id не владельцем")
+    void getItemById_whenUserIsNotOwner_thenDoNotLoadBookings() {
+        when(itemRepository.findById(item.getId())).thenReturn(Optional.of(item));
+
+        ItemDto actualItemDto = itemService.getItemById(user2.getId(), item.getId());
+
+        assertEquals(itemDto, actualItemDto);
+        verify(itemBookingSummaries, never()).get(anyList(), any(LocalDateTime.class));
+        verify(userService).checkUserExists(user2.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование ETag вещи по версиям без загрузки комментариев")
+    void getItemEtag_whenBookingChanges_thenOnlyOwnerEtagChanges() {
+        when(itemRepository.findById(item.getId())).thenReturn(Optional.of(item));
+        when(itemBookingSummaries.get(eq(List.of(item.getId())), any(LocalDateTime.class)))
+                .thenReturn(Map.<Long, ItemBookingsView>of(item.getId(), ItemBookingSummary.empty(item.getId())))
+                .thenReturn(Map.<Long, ItemBookingsView>of(item.getId(), ItemBookingSummary.builder()
+                        .itemId(item.getId())
+                        .lastBookingId(lastBooking.getId())
+                        .lastBookerId(lastBooking.getBooker().getId())
+                        .build()));
+
+        String ownerEtag = itemService.getItemEtag(user.getId(), item.getId());
+        String bookedOwnerEtag = itemService.getItemEtag(user.getId(), item.getId());
+        String otherEtag = itemService.getItemEtag(user2.getId(), item.getId());
+
+        assertNotEquals(ownerEtag, bookedOwnerEtag);
+        assertNotEquals(ownerEtag, otherEtag);
+        assertEquals(otherEtag, itemService.getItemEtag(user2.getId(), item.getId()));
+        verify(commentRepository, times(4)).findAuthorVersionsByItemId(item.getId());
+        verify(commentRepository, never()).findAllByItemId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Тестирование ETag несуществующей вещи")
+    void getItemEtag_whenItemIdIsInvalid_thenReturnNull() {
+        when(itemRepository.findById(item.getId())).thenReturn(Optional.empty());
+
+        assertNull(itemService.getItemEtag(user.getId(), item.getId()));
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
     @DisplayName("Тестирование добавления вещи по несуществующему Id")
     void getItemById_whenItemIdIsInvalid_thenThrowNotFoundException() {
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(itemRepository.findById(item.getId())).thenReturn(Optional.empty());
 
         ObjectNotFoundException itemNotFoundException = assertThrows(ObjectNotFoundException.class,
@@ -260,6 +328,7 @@ class ItemServiceImplTest {
 
         assertEquals(itemNotFoundException.getMessage(), String.format("User with id: %s " +
                 "have not item with id: %s.", user.getId(), item.getId()));
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
@@ -270,17 +339,36 @@ class ItemServiceImplTest {
         itemDto.setNextBooking(toBookingItemDto(nextBooking));
         List<ItemDto> expectedItemsDto = List.of(itemDto);
 
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         Page<Item> items = new PageImpl<>(List.of(item));
         when(itemRepository.findByOwner_IdOrderByIdAsc(anyLong(), any(Pageable.class))).thenReturn(items);
         when(commentRepository.findByItemIn(anyList(), any(Sort.class))).thenReturn(List.of(comment));
-        when(bookingRepository.findAllByItemInAndStatus(anyList(), any(BookingStatus.class), any(Sort.class)))
-                .thenReturn(List.of(lastBooking, nextBooking, pastBooking, futureBooking));
+        when(itemBookingSummaries.get(eq(List.of(item.getId())), any(LocalDateTime.class)))
+                .thenReturn(Map.<Long, ItemBookingsView>of(item.getId(), ItemBookingSummary.builder()
+                        .itemId(item.getId())
+                        .lastBookingId(lastBooking.getId())
+                        .lastBookerId(lastBooking.getBooker().getId())
+                        .nextBookingId(nextBooking.getId())
+                        .nextBookerId(nextBooking.getBooker().getId())
+                        .validUntil(nextBooking.getStart())
+                        .build()));
 
         List<ItemDto> actualItemsDto = itemService.getAllItems(user.getId(), 0, 10);
 
         assertEquals(actualItemsDto.size(), 1);
         assertEquals(actualItemsDto, expectedItemsDto);
+        verify(userService).checkUserExists(user.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование получения всех вещей, когда у пользователя нет вещей")
+    void getAllItems_whenUserHasNoItems_thenReturnEmptyList() {
+        when(itemRepository.findByOwner_IdOrderByIdAsc(anyLong(), any(Pageable.class))).thenReturn(Page.empty());
+
+        List<ItemDto> actualItemsDto = itemService.getAllItems(user.getId(), 0, 10);
+
+        assertEquals(0, actualItemsDto.size());
+        verify(itemBookingSummaries, never()).get(anyList(), any(LocalDateTime.class));
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
@@ -298,15 +386,139 @@ class ItemServiceImplTest {
     @Test
     @DisplayName("Тестирование поиска вещи")
     void searchItems() {
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
-        Page<Item> items = new PageImpl<>(List.of(item));
-        when(itemRepository.findAll(any(Pageable.class))).thenReturn(items);
+        when(itemRepository.searchAvailableItems(eq("item"), any(Pageable.class))).thenReturn(List.of(item));
 
         List<ItemDto> actualItemsDto = itemService.searchItems(user.getId(), "item", 0, 10);
 
         assertEquals(1, actualItemsDto.size());
         assertEquals(1, actualItemsDto.get(0).getId());
         assertEquals("item name", actualItemsDto.get(0).getName());
+        verify(userService).checkUserExists(user.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование поиска вещи со смещением, не кратным размеру страницы")
+    void searchItems_whenFromIsNotMultipleOfSize_thenSkipFromItems() {
+        when(itemRepository.searchAvailableItems(eq("item"), any(Pageable.class))).thenReturn(List.of(item));
+
+        itemService.searchItems(user.getId(), "item", 3, 2);
+
+        verify(itemRepository).searchAvailableItems("item", OffsetPageRequest.of(3, 2));
+    }
+
+    @Test
+    @DisplayName("Тестирование поиска вещи по индексу токенов")
+    void searchItems_whenTokenIndexIsReady_thenLoadFoundItemsById() {
+        Item secondItem = Item.builder()
+                .id(2L)
+                .name("second item")
+                .description("description")
+                .available(true)
+                .owner(user)
+                .build();
+        when(itemTokenIndex.canSearch("item")).thenReturn(true);
+        when(itemTokenIndex.search("item", 0L, 10)).thenReturn(List.of(1L, 2L, 3L), List.of(1L, 2L));
+        when(itemRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(secondItem, item));
+        when(itemRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(secondItem, item));
+
+        List<ItemDto> actualItemsDto = itemService.searchItems(user.getId(), "item", 0, 10);
+
+        assertEquals(2, actualItemsDto.size());
+        assertEquals(1L, actualItemsDto.get(0).getId());
+        assertEquals(2L, actualItemsDto.get(1).getId());
+        verify(itemTokenIndex).remove(Set.of(3L));
+        verify(itemRepository, never()).searchAvailableItems(anyString(), any(Pageable.class));
+        verify(userService).checkUserExists(user.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование поиска вещи по индексу токенов, когда вещи изменились на другом экземпляре")
+    void searchItems_whenIndexedItemsAreStale_thenRefreshIndexAndRefillPage() {
+        Item unavailableItem = Item.builder()
+                .id(2L)
+                .name("second item")
+                .description("description")
+                .available(false)
+                .owner(user)
+                .build();
+        Item renamedItem = Item.builder()
+                .id(3L)
+                .name("drill")
+                .description("description")
+                .available(true)
+                .owner(user)
+                .build();
+        Item fourthItem = Item.builder()
+                .id(4L)
+                .name("fourth ITEM")
+                .description("description")
+                .available(true)
+                .owner(user)
+                .build();
+        when(itemTokenIndex.canSearch("item")).thenReturn(true);
+        when(itemTokenIndex.search("item", 0L, 2))
+                .thenReturn(List.of(1L, 2L), List.of(1L, 3L), List.of(1L, 4L));
+        when(itemRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(item, unavailableItem));
+        when(itemRepository.findAllById(List.of(1L, 3L))).thenReturn(List.of(item, renamedItem));
+        when(itemRepository.findAllById(List.of(1L, 4L))).thenReturn(List.of(item, fourthItem));
+
+        List<ItemDto> actualItemsDto = itemService.searchItems(user.getId(), "item", 0, 2);
+
+        assertEquals(List.of(1L, 4L), actualItemsDto.stream().map(ItemDto::getId).collect(Collectors.toList()));
+        verify(itemTokenIndex).reindex(List.of(unavailableItem));
+        verify(itemTokenIndex).reindex(List.of(renamedItem));
+        verify(userService).checkUserExists(user.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование поиска вещи со спецсимволами LIKE")
+    void searchItems_whenTextHasWildcards_thenEscapeThem() {
+        when(itemRepository.searchAvailableItems(eq("100\\%\\_"), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        List<ItemDto> actualItemsDto = itemService.searchItems(user.getId(), "100%_", 0, 10);
+
+        assertEquals(0, actualItemsDto.size());
+        verify(userService).checkUserExists(user.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование поиска свободных в период вещей")
+    void searchAvailableItems() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1L);
+        LocalDateTime end = start.plusDays(2L);
+        when(itemRepository.searchItemsFreeBetween(eq("drill"), eq(start), eq(end), eq(BookingStatus.ACTIVE),
+                any(Pageable.class))).thenReturn(List.of(item));
+
+        List<ItemDto> actualItemsDto = itemService.searchAvailableItems(user.getId(), "drill", start, end, 0, 10);
+
+        assertEquals(1, actualItemsDto.size());
+        assertEquals(item.getId(), actualItemsDto.get(0).getId());
+        verify(userService).checkUserExists(user.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование поиска свободных в период вещей с пустым текстом")
+    void searchAvailableItems_whenTextIsBlank_thenReturnEmptyList() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1L);
+
+        List<ItemDto> actualItemsDto = itemService.searchAvailableItems(user.getId(), " ", start, start.plusDays(2L),
+                0, 10);
+
+        assertTrue(actualItemsDto.isEmpty());
+        verify(itemRepository, never()).searchItemsFreeBetween(anyString(), any(), any(), any(), any());
+        verify(userService).checkUserExists(user.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование поиска свободных вещей с концом периода раньше начала")
+    void searchAvailableItems_whenEndIsNotAfterStart_thenThrowValidationException() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1L);
+
+        assertThrows(BookingValidationException.class,
+                () -> itemService.searchAvailableItems(user.getId(), "drill", start, start, 0, 10));
+        verify(itemRepository, never()).searchItemsFreeBetween(anyString(), any(), any(), any(), any());
+        verify(userService).checkUserExists(user.getId());
     }
 
     @Test
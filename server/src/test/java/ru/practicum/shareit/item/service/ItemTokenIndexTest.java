@@ -0,0 +1,150 @@
+package ru.practicum.shareit.item.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemTokenIndexTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    private ItemTokenIndex itemTokenIndex;
+
+    private final Item drill = Item.builder()
+            .id(1L)
+            .name("Дрель")
+            .description("Простая дрель")
+            .available(true)
+            .build();
+
+    private final Item screwdriver = Item.builder()
+            .id(2L)
+            .name("Отвертка")
+            .description("Аккумуляторная ДРЕЛЬ-отвертка")
+            .available(true)
+            .build();
+
+    private final Item unavailableDrill = Item.builder()
+            .id(3L)
+            .name("Аккумуляторная дрель")
+            .description("Недоступна")
+            .available(false)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        itemTokenIndex = new ItemTokenIndex(itemRepository, true, 2);
+    }
+
+    @Test
+    @DisplayName("Тестирование построения индекса пачками")
+    void rebuild() {
+        when(itemRepository.findAllByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(drill, screwdriver));
+        when(itemRepository.findAllByIdGreaterThanOrderByIdAsc(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(unavailableDrill));
+
+        assertFalse(itemTokenIndex.canSearch("дрель"));
+
+        itemTokenIndex.rebuild();
+
+        assertTrue(itemTokenIndex.canSearch("дрель"));
+        assertFalse(itemTokenIndex.canSearch("др"));
+        assertEquals(List.of(1L, 2L), itemTokenIndex.search("дРеЛь", 0, 10));
+    }
+
+    @Test
+    @DisplayName("Тестирование поиска подстроки со смещением")
+    void search_whenOffsetIsSet_thenSkipMatches() {
+        itemTokenIndex.index(drill);
+        itemTokenIndex.index(screwdriver);
+        itemTokenIndex.index(unavailableDrill);
+
+        assertEquals(List.of(2L), itemTokenIndex.search("дрель", 1, 10));
+        assertEquals(List.of(1L), itemTokenIndex.search("дрель", 0, 1));
+        assertEquals(List.of(2L), itemTokenIndex.search("аккумулятор", 0, 10));
+    }
+
+    @Test
+    @DisplayName("Тестирование поиска, когда все триграммы есть, но подстроки нет")
+    void search_whenGramsMatchButTextDoesNot_thenReturnEmpty() {
+        itemTokenIndex.index(Item.builder()
+                .id(1L)
+                .name("abcd")
+                .description("xbcy")
+                .available(true)
+                .build());
+
+        assertEquals(Collections.emptyList(), itemTokenIndex.search("abcy", 0, 10));
+        assertEquals(Collections.emptyList(), itemTokenIndex.search("пила", 0, 10));
+    }
+
+    @Test
+    @DisplayName("Тестирование обновления и удаления вещи из индекса")
+    void index_whenItemUpdated_thenReplacePostings() {
+        itemTokenIndex.index(drill);
+        itemTokenIndex.index(Item.builder()
+                .id(1L)
+                .name("Пила")
+                .description("Ручная пила")
+                .available(true)
+                .build());
+
+        assertEquals(Collections.emptyList(), itemTokenIndex.search("дрель", 0, 10));
+        assertEquals(List.of(1L), itemTokenIndex.search("пила", 0, 10));
+
+        itemTokenIndex.remove(List.of(1L));
+
+        assertEquals(Collections.emptyList(), itemTokenIndex.search("пила", 0, 10));
+    }
+
+    @Test
+    @DisplayName("Тестирование переиндексации вещей, изменённых в обход индекса")
+    void reindex_whenItemsChanged_thenMatchLikeRepositoryQuery() {
+        itemTokenIndex.index(drill);
+        itemTokenIndex.index(screwdriver);
+        Item soldDrill = Item.builder()
+                .id(1L)
+                .name("Дрель")
+                .description("Простая дрель")
+                .available(false)
+                .build();
+
+        assertTrue(ItemTokenIndex.matches(screwdriver, "дРеЛь"));
+        assertFalse(ItemTokenIndex.matches(soldDrill, "дрель"));
+
+        itemTokenIndex.reindex(List.of(soldDrill));
+
+        assertEquals(List.of(2L), itemTokenIndex.search("дрель", 0, 10));
+    }
+
+    @Test
+    @DisplayName("Тестирование выключенного индекса")
+    void index_whenDisabled_thenIgnoreUpdates() {
+        ItemTokenIndex disabledIndex = new ItemTokenIndex(itemRepository, false, 2);
+
+        disabledIndex.rebuild();
+        disabledIndex.index(drill);
+
+        assertFalse(disabledIndex.canSearch("дрель"));
+        assertEquals(Collections.emptyList(), disabledIndex.search("дрель", 0, 10));
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class MetricsTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("Тестирование метрик сервиса и репозитория с состоянием бронирования и эндпоинтом")
+    void getAllByOwner_whenCalled_thenTimeServiceAndRepositoryWithRequestTags() throws Exception {
+        User user = userRepository.save(User.builder().name("name").email("metrics@email.com").build());
+
+        mvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", user.getId())
+                        .param("state", "PAST"))
+                .andExpect(status().isOk());
+
+        assertEquals(1, registry.get("shareit.service")
+                .tags("class", "BookingServiceImpl", "method", "getAllByOwner")
+                .tags(RequestTags.ENDPOINT, "GET /bookings/owner", RequestTags.BOOKING_STATE, "PAST")
+                .timer().count());
+        assertEquals(1, registry.get("spring.data.repository.invocations")
+                .tags("repository", "BookingRepository", "method", "findAllPastBookingsByOwnerId")
+                .tags(RequestTags.ENDPOINT, "GET /bookings/owner", RequestTags.BOOKING_STATE, "PAST")
+                .timer().count());
+
+        mvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("shareit_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{")));
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.cache.EntityVersion;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.model.Request;
 import ru.practicum.shareit.user.model.User;
@@ -85,4 +86,14 @@ class RequestRepositoryTest {
         assertEquals(requests.size(), 1);
         assertEquals(requests.get(0).getDescription(), "request description");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Тестирование получения версий чужих запросов")
+    void findVersionsByRequestorIdNot() {
+        List<EntityVersion> versions = requestRepository.findVersionsByRequestorIdNot(2L, PageRequest.of(0, 1));
+
+        assertEquals(1, versions.size());
+        assertEquals(request1.getId(), versions.get(0).getId());
+        assertEquals(0L, versions.get(0).getVersion());
+    }
+}
@@ -8,6 +8,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.exceptions.ObjectNotFoundException;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.cache.EntityVersion;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.dao.RequestRepository;
 import ru.practicum.shareit.request.dto.RequestDto;
@@ -20,9 +22,14 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static ru.practicum.shareit.request.RequestMapper.toRequestDto;
 
@@ -35,6 +42,9 @@ class RequestServiceImplTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ItemRepository itemRepository;
+
     @InjectMocks
     private RequestServiceImpl requestService;
 
@@ -56,6 +66,7 @@ class RequestServiceImplTest {
             .description("description")
             .available(true)
             .owner(user)
+            .requestId(1L)
             .build();
 
     private final Request request = Request.builder()
@@ -80,43 +91,94 @@ class RequestServiceImplTest {
     @DisplayName("Тестирование получения запросов пользователя")
     void getUserRequests() {
         List<RequestDto> expectedRequestsDto = List.of(toRequestDto(request));
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(requestRepository.findAllByRequestorIdOrderByCreated(userDto.getId())).thenReturn(List.of(request));
+        when(itemRepository.findAllByRequestIdIn(List.of(request.getId()))).thenReturn(List.of(item));
 
         List<RequestDto> actualRequestsDto = requestService.getUserRequests(userDto.getId());
 
         assertEquals(expectedRequestsDto, actualRequestsDto);
+        verify(userService).checkUserExists(userDto.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения всех запросов")
     void getAllRequests() {
         List<RequestDto> expectedRequestsDto = List.of(toRequestDto(request));
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(requestRepository.findAllByRequestorIdNot(anyLong(), any(PageRequest.class)))
                 .thenReturn(List.of(request));
+        when(itemRepository.findAllByRequestIdIn(List.of(request.getId()))).thenReturn(List.of(item));
 
         List<RequestDto> actualRequestsDto = requestService.getAllRequests(userDto.getId(), 0, 10);
 
         assertEquals(expectedRequestsDto, actualRequestsDto);
+        verify(userService).checkUserExists(userDto.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование получения запросов без вещей")
+    void getAllRequests_whenRequestsHaveNoItems_thenReturnEmptyItems() {
+        Request emptyRequest = Request.builder()
+                .id(2L)
+                .description("request without items")
+                .build();
+        when(requestRepository.findAllByRequestorIdNot(anyLong(), any(PageRequest.class)))
+                .thenReturn(List.of(request, emptyRequest));
+        when(itemRepository.findAllByRequestIdIn(List.of(request.getId(), emptyRequest.getId())))
+                .thenReturn(List.of(item));
+
+        List<RequestDto> actualRequestsDto = requestService.getAllRequests(userDto.getId(), 0, 10);
+
+        assertEquals(List.of(toRequestDto(request), toRequestDto(emptyRequest, List.of())), actualRequestsDto);
+        verify(userService).checkUserExists(userDto.getId());
+    }
+
+    @Test
+    @DisplayName("Тестирование ETag страницы запросов по версиям")
+    void getAllRequestsEtag_whenItemVersionChanges_thenEtagChanges() {
+        EntityVersion requestVersion = mock(EntityVersion.class);
+        when(requestVersion.getId()).thenReturn(request.getId());
+        EntityVersion itemVersion = mock(EntityVersion.class);
+        when(itemVersion.getId()).thenReturn(item.getId());
+        when(itemVersion.getVersion()).thenReturn(0L, 1L);
+        when(requestRepository.findVersionsByRequestorIdNot(anyLong(), any(PageRequest.class)))
+                .thenReturn(List.of(requestVersion));
+        when(itemRepository.findVersionsByRequestIdIn(List.of(request.getId()))).thenReturn(List.of(itemVersion));
+
+        String etag = requestService.getAllRequestsEtag(userDto.getId(), 0, 10);
+
+        assertNotEquals(etag, requestService.getAllRequestsEtag(userDto.getId(), 0, 10));
+        verify(requestRepository, never()).findAllByRequestorIdNot(anyLong(), any(PageRequest.class));
+        verify(itemRepository, never()).findAllByRequestIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("Тестирование получения пустой страницы запросов")
+    void getAllRequests_whenPageIsEmpty_thenDoNotLoadItems() {
+        when(requestRepository.findAllByRequestorIdNot(anyLong(), any(PageRequest.class)))
+                .thenReturn(List.of());
+
+        List<RequestDto> actualRequestsDto = requestService.getAllRequests(userDto.getId(), 0, 10);
+
+        assertEquals(List.of(), actualRequestsDto);
+        verify(itemRepository, never()).findAllByRequestIdIn(anyList());
+        verify(userService).checkUserExists(userDto.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения запроса по Id")
     void getRequestById() {
         RequestDto expectedRequestDto = toRequestDto(request);
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(requestRepository.findById(request.getId())).thenReturn(Optional.of(request));
 
         RequestDto actualRequestDto = requestService.getRequestById(userDto.getId(), request.getId());
 
         assertEquals(expectedRequestDto, actualRequestDto);
+        verify(userService).checkUserExists(userDto.getId());
     }
 
     @Test
     @DisplayName("Тестирование получения запроса по несуществующему Id")
     void getRequestById_whenRequestIdIsNotValid_thenThrowObjectNotFoundException() {
-        when(userService.getUserById(user.getId())).thenReturn(userDto);
         when(requestRepository.findById(request.getId())).thenReturn(Optional.empty());
 
         ObjectNotFoundException requestNotFoundException = assertThrows(ObjectNotFoundException.class,
@@ -124,5 +186,6 @@ class RequestServiceImplTest {
 
         assertEquals(requestNotFoundException.getMessage(), String.format("Request with id: %s " +
                 "have not been found.", request.getId()));
+        verify(userService).checkUserExists(userDto.getId());
     }
 }
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.tracing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.sleuth.enabled=false")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class TracingDisabledTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    @DisplayName("Тестирование запуска сервера без трассировки")
+    void getAll_whenSleuthIsDisabled_thenServeRequestWithoutTracingAspect() throws Exception {
+        assertEquals(0, context.getBeanNamesForType(TracingAspect.class).length);
+
+        mvc.perform(get("/users"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,95 @@
+package ru.practicum.shareit.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.sleuth.sampler.probability=1.0")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class TracingTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CollectingSpanHandler spans;
+
+    @Test
+    @DisplayName("Тестирование спанов контроллера, сервиса и репозитория в трассе шлюза")
+    void getAllByOwner_whenTraceparentIsSent_thenContinueTraceWithServiceAndRepositorySpans() throws Exception {
+        User user = userRepository.save(User.builder().name("name").email("tracing@email.com").build());
+        spans.clear();
+
+        mvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", user.getId())
+                        .header("traceparent", "00-" + TRACE_ID + "-00f067aa0ba902b7-01")
+                        .param("state", "PAST"))
+                .andExpect(status().isOk());
+
+        List<String> names = spans.finished().stream()
+                .filter(span -> TRACE_ID.equals(span.traceId()))
+                .map(MutableSpan::name)
+                .collect(Collectors.toList());
+        assertTrue(names.contains("BookingServiceImpl.getAllByOwner"), names.toString());
+        assertTrue(names.contains("BookingRepository.findAllPastBookingsByOwnerId"), names.toString());
+        assertTrue(names.stream().anyMatch(name -> name.contains("/bookings/owner")), names.toString());
+        assertEquals("PAST", spans.finished().stream()
+                .filter(span -> "BookingServiceImpl.getAllByOwner".equals(span.name()))
+                .findFirst().orElseThrow()
+                .tag("booking.state"));
+    }
+
+    @TestConfiguration
+    static class SpanCollectorConfig {
+
+        @Bean
+        CollectingSpanHandler collectingSpanHandler() {
+            return new CollectingSpanHandler();
+        }
+    }
+
+    static class CollectingSpanHandler extends SpanHandler {
+
+        private final List<MutableSpan> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+            spans.add(span);
+            return true;
+        }
+
+        List<MutableSpan> finished() {
+            return spans;
+        }
+
+        void clear() {
+            spans.clear();
+        }
+    }
+}
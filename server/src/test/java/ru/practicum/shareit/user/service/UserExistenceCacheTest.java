@@ -0,0 +1,75 @@
+package ru.practicum.shareit.user.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserExistenceCacheTest {
+
+    private final UserExistenceCache userExistenceCache = new UserExistenceCache(100, Duration.ofMinutes(10));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Тестирование удаления пользователя из кэша только после коммита")
+    void invalidate_whenInTransaction_thenEvictAfterCommit() {
+        userExistenceCache.add(1L, userExistenceCache.version());
+        TransactionSynchronizationManager.initSynchronization();
+
+        userExistenceCache.invalidate(1L);
+
+        assertTrue(userExistenceCache.contains(1L));
+
+        commit();
+
+        assertFalse(userExistenceCache.contains(1L));
+    }
+
+    @Test
+    @DisplayName("Тестирование добавления пользователя в кэш только после коммита")
+    void add_whenInTransaction_thenCacheAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        userExistenceCache.add(1L, userExistenceCache.version());
+
+        assertFalse(userExistenceCache.contains(1L));
+
+        commit();
+
+        assertTrue(userExistenceCache.contains(1L));
+    }
+
+    @Test
+    @DisplayName("Тестирование чтения пользователя, которое пересеклось с его удалением")
+    void add_whenUserInvalidatedAfterRead_thenDoNotCache() {
+        long version = userExistenceCache.version();
+
+        userExistenceCache.invalidate(1L);
+        userExistenceCache.add(1L, version);
+
+        assertFalse(userExistenceCache.contains(1L));
+
+        userExistenceCache.add(1L, userExistenceCache.version());
+
+        assertTrue(userExistenceCache.contains(1L));
+    }
+
+    private void commit() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -8,9 +8,17 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exceptions.ObjectNotFoundException;
+import ru.practicum.shareit.item.booking.dto.BookingDto;
+import ru.practicum.shareit.item.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.item.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.time.LocalDateTime;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 @Transactional
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
@@ -19,6 +27,12 @@ public class UserServiceIT {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private BookingService bookingService;
+
     private final UserDto userDto = UserDto.builder()
             .name("name")
             .email("email@email.com")
@@ -42,4 +56,30 @@ public class UserServiceIT {
         Assertions
                 .assertThrows(ObjectNotFoundException.class, () -> userService.getUserById(userId));
     }
+
+    @Test
+    @DisplayName("Интеграционное тестирование чтения вещи после удаления арендатора")
+    void deleteUser_whenUserBookedItem_thenItemHasNoBookingsOfUser() {
+        UserDto owner = userService.addNewUser(userDto);
+        UserDto booker = userService.addNewUser(UserDto.builder()
+                .name("booker")
+                .email("booker@email.com")
+                .build());
+        ItemDto item = itemService.addNewItem(owner.getId(), ItemDto.builder()
+                .name("item")
+                .description("description")
+                .available(true)
+                .build());
+        BookingDtoOut booking = bookingService.create(booker.getId(), BookingDto.builder()
+                .itemId(item.getId())
+                .start(LocalDateTime.now().plusDays(1L))
+                .end(LocalDateTime.now().plusDays(2L))
+                .build());
+        bookingService.update(owner.getId(), booking.getId(), true);
+        assertEquals(booking.getId(), itemService.getItemById(owner.getId(), item.getId()).getNextBooking().getId());
+
+        userService.deleteUser(booker.getId());
+
+        assertNull(itemService.getItemById(owner.getId(), item.getId()).getNextBooking());
+    }
 }
@@ -8,7 +8,11 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.cache.EntityCacheEvictor;
 import ru.practicum.shareit.exceptions.ObjectNotFoundException;
+import ru.practicum.shareit.item.booking.dao.BookingRepository;
+import ru.practicum.shareit.item.booking.service.ItemBookingSummaries;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.UserMapper;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.dto.UserDto;
@@ -28,6 +32,18 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserExistenceCache userExistenceCache;
+
+    @Mock
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private ItemBookingSummaries itemBookingSummaries;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -75,6 +91,7 @@ class UserServiceImplTest {
 
         assertEquals("email1", savedUser.getEmail());
         assertEquals("name1", savedUser.getName());
+        verify(entityCacheEvictor).evict(User.class, userId);
     }
 
     @Test
@@ -154,10 +171,15 @@ class UserServiceImplTest {
         long userId = 0L;
         User expectedUser = new User();
         when(userRepository.findById(userId)).thenReturn(Optional.of(expectedUser));
+        when(bookingRepository.findApprovedItemIdsByBookerId(userId)).thenReturn(List.of(3L));
 
         userService.deleteUser(userId);
 
         verify(userRepository, times(1)).deleteById(userId);
+        verify(itemBookingSummaries, times(1)).refresh(List.of(3L));
+        verify(userExistenceCache, times(1)).invalidate(userId);
+        verify(entityCacheEvictor, times(1)).evict(User.class, userId);
+        verify(entityCacheEvictor, times(1)).evictAll(Item.class);
     }
 
     @Test
@@ -171,4 +193,39 @@ class UserServiceImplTest {
 
         assertEquals(userNotFoundException.getMessage(), String.format("User with id: %s was not found!", userId));
     }
+
+    @Test
+    @DisplayName("Тестирование проверки существования пользователя из кэша")
+    void checkUserExists_whenUserIsCached_thenDoNotQueryRepository() {
+        when(userExistenceCache.contains(1L)).thenReturn(true);
+
+        userService.checkUserExists(1L);
+
+        verify(userRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Тестирование проверки существования пользователя, отсутствующего в кэше")
+    void checkUserExists_whenUserIsNotCached_thenQueryRepositoryAndCache() {
+        when(userExistenceCache.contains(1L)).thenReturn(false);
+        when(userExistenceCache.version()).thenReturn(7L);
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        userService.checkUserExists(1L);
+
+        verify(userExistenceCache).add(1L, 7L);
+    }
+
+    @Test
+    @DisplayName("Тестирование проверки существования несуществующего пользователя")
+    void checkUserExists_whenUserNotExist_thenThrowObjectNotFoundException() {
+        when(userExistenceCache.contains(1L)).thenReturn(false);
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        ObjectNotFoundException userNotFoundException = assertThrows(ObjectNotFoundException.class,
+                () -> userService.checkUserExists(1L));
+
+        assertEquals("User with id: 1 was not found!", userNotFoundException.getMessage());
+        verify(userExistenceCache, never()).add(anyLong(), anyLong());
+    }
 }
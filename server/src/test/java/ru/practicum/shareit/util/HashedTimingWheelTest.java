@@ -0,0 +1,77 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedTimingWheelTest {
+
+    private final HashedTimingWheel<Long> wheel = new HashedTimingWheel<>(Duration.ofSeconds(1L), 4);
+
+    @Test
+    @DisplayName("Тестирование срабатывания таймера на тике его дедлайна")
+    void advance_whenDeadlineReached_thenReturnExpiredKey() {
+        wheel.schedule(1L, Duration.ofMillis(2500L));
+
+        assertEquals(List.of(), wheel.advance());
+        assertEquals(List.of(), wheel.advance());
+        assertEquals(List.of(1L), wheel.advance());
+        assertFalse(wheel.isScheduled(1L));
+    }
+
+    @Test
+    @DisplayName("Тестирование таймера дальше одного оборота колеса")
+    void advance_whenDeadlineIsBeyondWheel_thenCountRounds() {
+        wheel.schedule(1L, Duration.ofSeconds(9L));
+
+        List<Integer> firedAt = new ArrayList<>();
+        for (int tick = 1; tick <= 12; tick++) {
+            if (!wheel.advance().isEmpty()) {
+                firedAt.add(tick);
+            }
+        }
+
+        assertEquals(List.of(9), firedAt);
+    }
+
+    @Test
+    @DisplayName("Тестирование немедленного срабатывания просроченного таймера")
+    void advance_whenDelayIsNotPositive_thenFireOnNextTick() {
+        wheel.schedule(1L, Duration.ofSeconds(-5L));
+        wheel.schedule(2L, Duration.ZERO);
+
+        List<Long> expired = wheel.advance();
+
+        assertEquals(2, expired.size());
+        assertTrue(expired.containsAll(List.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("Тестирование перепланирования и отмены таймера")
+    void schedule_whenKeyIsScheduled_thenReplaceTimer() {
+        wheel.schedule(1L, Duration.ofSeconds(1L));
+        wheel.schedule(1L, Duration.ofSeconds(3L));
+        wheel.schedule(2L, Duration.ofSeconds(1L));
+        wheel.cancel(2L);
+
+        assertEquals(1, wheel.size());
+        assertEquals(List.of(), wheel.advance());
+        assertEquals(List.of(), wheel.advance());
+        assertEquals(List.of(1L), wheel.advance());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Тестирование создания колеса с неположительным тиком")
+    void create_whenTickIsNotPositive_thenThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimingWheel<Long>(Duration.ZERO, 4));
+    }
+}
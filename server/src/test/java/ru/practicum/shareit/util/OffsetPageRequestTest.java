@@ -0,0 +1,44 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffsetPageRequestTest {
+
+    @Test
+    @DisplayName("Тестирование смещения, не кратного размеру страницы")
+    void of_whenOffsetIsNotAligned_thenKeepOffset() {
+        Pageable pageable = OffsetPageRequest.of(3, 2);
+
+        assertEquals(3L, pageable.getOffset());
+        assertEquals(2, pageable.getPageSize());
+        assertEquals(1, pageable.getPageNumber());
+        assertTrue(pageable.hasPrevious());
+    }
+
+    @Test
+    @DisplayName("Тестирование перехода между страницами со смещением")
+    void next_whenOffsetIsNotAligned_thenShiftBySize() {
+        Pageable pageable = OffsetPageRequest.of(3, 2);
+
+        assertEquals(5L, pageable.next().getOffset());
+        assertEquals(1L, pageable.previousOrFirst().getOffset());
+        assertEquals(0L, pageable.first().getOffset());
+        assertFalse(pageable.first().hasPrevious());
+    }
+
+    @Test
+    @DisplayName("Тестирование отрицательного смещения")
+    void of_whenOffsetIsNegative_thenThrowIllegalArgumentException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> OffsetPageRequest.of(-1, 2));
+
+        assertEquals("Offset -1 should not be negative.", exception.getMessage());
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.tracing.log-spans", havingValue = "true")
+public class LoggingSpanHandler extends SpanHandler {
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (cause == Cause.FINISHED) {
+            log.info("Span {} took {} us, trace {}, span {}, parent {}, tags {}{}", span.name(),
+                    span.finishTimestamp() - span.startTimestamp(), span.traceId(), span.id(), span.parentId(),
+                    span.tags(), span.error() != null ? ", error " + span.error() : "");
+        }
+        return true;
+    }
+}